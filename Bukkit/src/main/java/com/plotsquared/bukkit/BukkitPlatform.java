@@ -99,6 +99,7 @@ import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.plot.world.SinglePlotAreaManager;
 import com.plotsquared.core.setup.PlotAreaBuilder;
 import com.plotsquared.core.setup.SettingsNodesWrapper;
+import com.plotsquared.core.util.EntityUtil;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.FileUtils;
 import com.plotsquared.core.util.PlatformWorldManager;
@@ -110,6 +111,8 @@ import com.plotsquared.core.util.WorldUtil;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.plotsquared.core.uuid.CacheUUIDService;
+import com.plotsquared.core.uuid.UUIDCacheSnapshot;
+import com.plotsquared.core.uuid.UUIDMapping;
 import com.plotsquared.core.uuid.UUIDPipeline;
 import com.plotsquared.core.uuid.offline.OfflineModeUUIDService;
 import com.sk89q.worldedit.WorldEdit;
@@ -174,6 +177,7 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + BukkitPlatform.class.getSimpleName());
     private static final int BSTATS_ID = 1404;
+    private static final String UUID_SNAPSHOT_FILE = "uuid_snapshot.bin";
 
     static {
         try {
@@ -373,6 +377,8 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             getServer().getPluginManager().registerEvents(injector().getInstance(EntitySpawnListener.class), this);
             if (PaperLib.isPaper() && Settings.Paper_Components.PAPER_LISTENERS) {
                 getServer().getPluginManager().registerEvents(injector().getInstance(PaperListener.class), this);
+                // Paper reports every entity added to or removed from a world, so entity counts can be kept longer
+                EntityUtil.setTrackingEntities(true);
             } else {
                 getServer().getPluginManager().registerEvents(injector().getInstance(SpigotListener.class), this);
             }
@@ -679,7 +685,27 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
             uuidSet.addAll(plot.getTrusted());
             uuidSet.addAll(plot.getDenied());
         });
-        final Queue<UUID> uuidQueue = new LinkedBlockingQueue<>(uuidSet);
+
+        // Warm the cache with the plot UUIDs stored by the last run, so that they are
+        // available right away instead of after the background caching has completed
+        final long start = System.currentTimeMillis();
+        final File snapshotFile = FileUtils.getFile(this.getDirectory(), UUID_SNAPSHOT_FILE);
+        try {
+            final List<UUIDMapping> snapshot = UUIDCacheSnapshot.read(snapshotFile);
+            cacheUUIDService.accept(snapshot);
+            LOGGER.info("(UUID) Loaded {} UUIDs from the cache snapshot in {}ms", snapshot.size(),
+                    System.currentTimeMillis() - start
+            );
+        } catch (final IOException e) {
+            LOGGER.warn("(UUID) Failed to read the UUID cache snapshot. It will be recreated", e);
+        }
+
+        final Queue<UUID> uuidQueue = new LinkedBlockingQueue<>();
+        for (final UUID uuid : uuidSet) {
+            if (cacheUUIDService.getImmediately(uuid) == null) {
+                uuidQueue.add(uuid);
+            }
+        }
 
         LOGGER.info("(UUID) {} UUIDs will be cached", uuidQueue.size());
 
@@ -727,7 +753,13 @@ public final class BukkitPlatform extends JavaPlugin implements Listener, PlotPl
                     LOGGER.error("(UUID) Failed to retrieve last batch. Will try again", e);
                 }
             }
-            LOGGER.info("(UUID) PlotSquared has cached all UUIDs");
+            LOGGER.info("(UUID) PlotSquared has cached all UUIDs in {}s", (System.currentTimeMillis() - start) / 1000L);
+            // Store the plot UUIDs for the next startup
+            try {
+                UUIDCacheSnapshot.write(snapshotFile, cacheUUIDService.getNames(new ArrayList<>(uuidSet)));
+            } catch (final IOException e) {
+                LOGGER.error("(UUID) Failed to write the UUID cache snapshot", e);
+            }
         }, 10, TimeUnit.SECONDS);
     }
 
@@ -38,6 +38,7 @@ import com.plotsquared.core.plot.flag.implementations.ExplosionFlag;
 import com.plotsquared.core.plot.flag.implementations.InvincibleFlag;
 import com.plotsquared.core.plot.flag.implementations.ProjectileChangeBlockFlag;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.util.EntityUtil;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.PlotFlagUtil;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
@@ -68,6 +69,8 @@ import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.entity.ExplosionPrimeEvent;
 import org.bukkit.event.vehicle.VehicleCreateEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
 import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.metadata.MetadataValue;
 import org.bukkit.plugin.Plugin;
@@ -200,6 +203,36 @@ public class EntityEventListener implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        invalidateEntityCounts(event.getEntities());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        invalidateEntityCounts(event.getEntities());
+    }
+
+    /**
+     * Entities that are loaded or unloaded with their chunk are not reported as spawns on every platform,
+     * so the plots they are in are recounted on their next entity cap check.
+     */
+    private void invalidateEntityCounts(final @NonNull List<Entity> entities) {
+        Plot last = null;
+        for (final Entity entity : entities) {
+            Location location = BukkitUtil.adapt(entity.getLocation());
+            PlotArea area = location.getPlotArea();
+            if (area == null) {
+                continue;
+            }
+            Plot plot = area.getOwnedPlotAbs(location);
+            if (plot != null && plot != last) {
+                EntityUtil.invalidateEntityCounts(plot);
+                last = plot;
+            }
+        }
+    }
+
     @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
     public void onEntityFall(EntityChangeBlockEvent event) {
         if (event.getEntityType() != EntityType.FALLING_BLOCK) {
@@ -19,7 +19,9 @@
 package com.plotsquared.bukkit.listener;
 
 import com.destroystokyo.paper.event.block.BeaconEffectEvent;
+import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
 import com.destroystokyo.paper.event.entity.EntityPathfindEvent;
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import com.destroystokyo.paper.event.entity.PlayerNaturallySpawnCreaturesEvent;
 import com.destroystokyo.paper.event.entity.PreCreatureSpawnEvent;
 import com.destroystokyo.paper.event.entity.PreSpawnerSpawnEvent;
@@ -27,6 +29,7 @@ import com.destroystokyo.paper.event.entity.SlimePathfindEvent;
 import com.destroystokyo.paper.event.player.PlayerLaunchProjectileEvent;
 import com.destroystokyo.paper.event.server.AsyncTabCompleteEvent;
 import com.google.inject.Inject;
+import com.plotsquared.bukkit.util.BukkitEntityUtil;
 import com.plotsquared.bukkit.util.BukkitUtil;
 import com.plotsquared.core.command.Command;
 import com.plotsquared.core.command.MainCommand;
@@ -62,6 +65,7 @@ import org.bukkit.event.block.BlockPlaceEvent;
 import org.bukkit.event.entity.CreatureSpawnEvent;
 import org.bukkit.projectiles.ProjectileSource;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -83,6 +87,34 @@ public class PaperListener implements Listener {
         this.plotAreaManager = plotAreaManager;
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityAddToWorld(EntityAddToWorldEvent event) {
+        Plot plot = getTrackedPlot(event.getEntity());
+        if (plot != null) {
+            BukkitEntityUtil.addEntity(event.getEntity(), plot);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+        Plot plot = getTrackedPlot(event.getEntity());
+        if (plot != null) {
+            BukkitEntityUtil.removeEntity(event.getEntity(), plot);
+        }
+    }
+
+    private @Nullable Plot getTrackedPlot(final @NonNull Entity entity) {
+        if (entity.getType() == EntityType.PLAYER) {
+            return null;
+        }
+        Location location = BukkitUtil.adapt(entity.getLocation());
+        PlotArea area = location.getPlotArea();
+        if (area == null) {
+            return null;
+        }
+        return area.getOwnedPlotAbs(location);
+    }
+
     @EventHandler
     public void onEntityPathfind(EntityPathfindEvent event) {
         if (!Settings.Paper_Components.ENTITY_PATHING) {
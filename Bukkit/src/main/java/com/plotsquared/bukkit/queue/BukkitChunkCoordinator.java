@@ -23,8 +23,8 @@ import com.google.inject.assistedinject.Assisted;
 import com.plotsquared.bukkit.BukkitPlatform;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.queue.ChunkCoordinator;
+import com.plotsquared.core.queue.ChunkCoordinatorScheduler;
 import com.plotsquared.core.queue.subscriber.ProgressSubscriber;
-import com.plotsquared.core.util.task.PlotSquaredTask;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
 import com.sk89q.worldedit.math.BlockVector2;
@@ -70,9 +70,9 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
     private final AtomicInteger expectedSize;
     private final AtomicInteger loadingChunks = new AtomicInteger();
     private final boolean forceSync;
+    private final ChunkCoordinatorScheduler scheduler;
 
     private int batchSize;
-    private PlotSquaredTask task;
     private volatile boolean shouldCancel;
     private boolean finished;
 
@@ -87,7 +87,8 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             @Assisted final @NonNull Consumer<Throwable> throwableConsumer,
             @Assisted("unloadAfter") final boolean unloadAfter,
             @Assisted final @NonNull Collection<ProgressSubscriber> progressSubscribers,
-            @Assisted("forceSync") final boolean forceSync
+            @Assisted("forceSync") final boolean forceSync,
+            final @NonNull ChunkCoordinatorScheduler scheduler
     ) {
         this.requestedChunks = new LinkedBlockingQueue<>(requestedChunks);
         this.availableChunks = new LinkedBlockingQueue<>();
@@ -103,6 +104,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
         this.bukkitWorld = Bukkit.getWorld(world.getName());
         this.progressSubscribers.addAll(progressSubscribers);
         this.forceSync = forceSync;
+        this.scheduler = scheduler;
     }
 
     @Override
@@ -111,7 +113,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             // Request initial batch
             this.requestBatch();
             // Wait until next tick to give the chunks a chance to be loaded
-            TaskManager.runTaskLater(() -> task = TaskManager.runTaskRepeat(this, TaskTime.ticks(1)), TaskTime.ticks(1));
+            TaskManager.runTaskLater(() -> scheduler.register(this), TaskTime.ticks(1));
         } else {
             try {
                 while (!shouldCancel && !requestedChunks.isEmpty()) {
@@ -139,15 +141,20 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             for (final ProgressSubscriber subscriber : this.progressSubscribers) {
                 subscriber.notifyEnd();
             }
-            if (task != null) {
-                task.cancel();
-            }
             finished = true;
         }
     }
 
     @Override
     public void run() {
+        run(this.maxIterationTime);
+    }
+
+    @Override
+    public boolean run(final long maxTime) {
+        if (finished) {
+            return true;
+        }
         if (shouldCancel) {
             if (unloadAfter) {
                 Chunk chunk;
@@ -156,7 +163,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
                 }
             }
             finish();
-            return;
+            return true;
         }
 
         Chunk chunk = this.availableChunks.poll();
@@ -168,9 +175,12 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
                     requestBatch();
                 }
             }
-            return;
+            return finished;
         }
-        long[] iterationTime = new long[2];
+        final long budget = Math.min(maxTime, this.maxIterationTime);
+        final long tickStart = System.currentTimeMillis();
+        long elapsed;
+        long iterationTime;
         int processedChunks = 0;
         do {
             final long start = System.currentTimeMillis();
@@ -184,10 +194,10 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
             }
             processedChunks++;
             final long end = System.currentTimeMillis();
-            // Update iteration time
-            iterationTime[0] = iterationTime[1];
-            iterationTime[1] = end - start;
-        } while (iterationTime[0] + iterationTime[1] < this.maxIterationTime * 2 && (chunk = availableChunks.poll()) != null);
+            // Only start another chunk if it is expected to finish within the budget
+            elapsed = end - tickStart;
+            iterationTime = end - start;
+        } while (elapsed + iterationTime < budget && (chunk = availableChunks.poll()) != null);
         if (processedChunks < this.batchSize) {
             // Adjust batch size based on the amount of processed chunks per tick
             this.batchSize = processedChunks;
@@ -206,6 +216,7 @@ public final class BukkitChunkCoordinator extends ChunkCoordinator {
                 this.requestBatch();
             }
         }
+        return finished;
     }
 
     /**
@@ -54,6 +54,7 @@ import org.bukkit.entity.Projectile;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.projectiles.BlockProjectileSource;
 import org.bukkit.projectiles.ProjectileSource;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.Objects;
 
@@ -399,4 +400,28 @@ public class BukkitEntityUtil {
         return EntityUtil.checkEntity(plot, EntityCapFlag.ENTITY_CAP_UNLIMITED);
     }
 
+    /**
+     * Add an entity that was added to the world to the tracked entity counts of the plot it is in.
+     *
+     * @param entity the entity that was added
+     * @param plot   the plot the entity is in
+     */
+    public static void addEntity(final @NonNull Entity entity, final @NonNull Plot plot) {
+        final int[] counts = new int[6];
+        BukkitRegionManager.count(counts, entity);
+        EntityUtil.addEntity(plot, counts);
+    }
+
+    /**
+     * Subtract an entity that was removed from the world from the tracked entity counts of the plot it was in.
+     *
+     * @param entity the entity that was removed
+     * @param plot   the plot the entity was in
+     */
+    public static void removeEntity(final @NonNull Entity entity, final @NonNull Plot plot) {
+        final int[] counts = new int[6];
+        BukkitRegionManager.count(counts, entity);
+        EntityUtil.removeEntity(plot, counts);
+    }
+
 }
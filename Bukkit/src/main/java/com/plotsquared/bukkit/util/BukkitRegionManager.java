@@ -88,10 +88,6 @@ public class BukkitRegionManager extends RegionManager {
 
     @Override
     public int[] countEntities(@NonNull Plot plot) {
-        int[] existing = (int[]) plot.getMeta("EntityCount");
-        if (existing != null && (System.currentTimeMillis() - (long) plot.getMeta("EntityCountTime") < 1000)) {
-            return existing;
-        }
         PlotArea area = plot.getArea();
         World world = BukkitUtil.getWorld(area.getWorldName());
         Location bot = plot.getBottomAbs();
@@ -322,7 +318,7 @@ public class BukkitRegionManager extends RegionManager {
         }
     }
 
-    private void count(int[] count, @NonNull Entity entity) {
+    static void count(int[] count, @NonNull Entity entity) {
         final com.sk89q.worldedit.world.entity.EntityType entityType = BukkitAdapter.adapt(entity.getType());
 
         if (EntityCategories.PLAYER.contains(entityType)) {
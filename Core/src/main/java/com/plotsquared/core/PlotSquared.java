@@ -23,6 +23,7 @@ import com.plotsquared.core.configuration.ConfigurationUtil;
 import com.plotsquared.core.configuration.MemorySection;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.Storage;
+import com.plotsquared.core.configuration.caption.CaptionComponentCache;
 import com.plotsquared.core.configuration.caption.CaptionMap;
 import com.plotsquared.core.configuration.caption.DummyCaptionMap;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
@@ -63,6 +64,7 @@ import com.plotsquared.core.util.LegacyConverter;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.ReflectionUtils;
 import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
 import com.plotsquared.core.uuid.UUIDPipeline;
 import com.sk89q.worldedit.WorldEdit;
 import com.sk89q.worldedit.event.platform.PlatformReadyEvent;
@@ -132,6 +134,8 @@ public class PlotSquared {
     // Localization
     private final Map<String, CaptionMap> captionMaps = new HashMap<>();
     public HashMap<String, HashMap<PlotId, Plot>> plots_tmp;
+    // Areas (by their database key) of which the plots are loaded, when loading plots lazily
+    private final Set<String> hydratedAreas = new HashSet<>();
     private CaptionLoader captionLoader;
     // WorldEdit instance
     private WorldEdit worldedit;
@@ -278,6 +282,7 @@ public class PlotSquared {
                     .resolve(fileName));
         }
         this.captionMaps.put(TranslatableCaption.DEFAULT_NAMESPACE, captionMap);
+        CaptionComponentCache.invalidate();
         LOGGER.info(
                 "Loaded caption map for namespace 'plotsquared': {}",
                 this.captionMaps.get(TranslatableCaption.DEFAULT_NAMESPACE).getClass().getCanonicalName()
@@ -353,6 +358,9 @@ public class PlotSquared {
      */
     @SuppressWarnings("unchecked")
     public void addPlotArea(final @NonNull PlotArea plotArea) {
+        if (Settings.Enabled_Components.LAZY_PLOT_LOADING) {
+            hydratePlots(plotArea);
+        }
         HashMap<PlotId, Plot> plots;
         if (plots_tmp == null || (plots = plots_tmp.remove(plotArea.toString())) == null) {
             if (plotArea.getType() == PlotAreaType.PARTIAL) {
@@ -444,6 +452,60 @@ public class PlotSquared {
     public void removePlotArea(final @NonNull PlotArea area) {
         getPlotAreaManager().removePlotArea(area);
         setPlotsTmp(area);
+        if (Settings.Enabled_Components.LAZY_PLOT_LOADING && Settings.Enabled_Components.LAZY_PLOT_EVICTION >= 0) {
+            scheduleEviction(area.getWorldName(), area.toString());
+        }
+    }
+
+    /**
+     * Load the plots of the given area from the database, if they were not loaded yet.
+     *
+     * @param area the area to load the plots of
+     */
+    private void hydratePlots(final @NonNull PlotArea area) {
+        if (DBFunc.dbManager == null) {
+            return;
+        }
+        final Set<String> areaIds = new HashSet<>();
+        for (final String areaId : new String[]{area.toString(), area.getWorldName()}) {
+            if (this.hydratedAreas.add(areaId)) {
+                areaIds.add(areaId);
+            }
+        }
+        if (areaIds.isEmpty()) {
+            return;
+        }
+        if (this.plots_tmp == null) {
+            this.plots_tmp = new HashMap<>();
+        }
+        for (final Entry<String, HashMap<PlotId, Plot>> entry : DBFunc.getPlots(areaIds).entrySet()) {
+            this.plots_tmp.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).putAll(entry.getValue());
+        }
+    }
+
+    /**
+     * Drop the plots of an unloaded area from memory once it stayed unloaded for the configured time.
+     * Plots are only dropped when no database writes are pending, otherwise the eviction is retried later.
+     *
+     * @param world  the world of the area
+     * @param areaId the database key of the area
+     */
+    private void scheduleEviction(final @NonNull String world, final @NonNull String areaId) {
+        TaskManager.runTaskLater(() -> {
+            if (!this.getPlotAreaManager().getPlotAreasSet(world).isEmpty()) {
+                return;
+            }
+            if (DBFunc.hasPendingTasks()) {
+                scheduleEviction(world, areaId);
+                return;
+            }
+            for (final String key : new String[]{world, areaId}) {
+                if (this.plots_tmp != null) {
+                    this.plots_tmp.remove(key);
+                }
+                this.hydratedAreas.remove(key);
+            }
+        }, TaskTime.seconds(Settings.Enabled_Components.LAZY_PLOT_EVICTION * 60L));
     }
 
     public void removePlotAreas(final @NonNull String world) {
@@ -1309,7 +1371,9 @@ public class PlotSquared {
                     this.plotListener,
                     this.worldConfiguration
             );
-            this.plots_tmp = DBFunc.getPlots();
+            if (!Settings.Enabled_Components.LAZY_PLOT_LOADING) {
+                this.plots_tmp = DBFunc.getPlots();
+            }
             if (getPlotAreaManager() instanceof SinglePlotAreaManager) {
                 SinglePlotArea area = ((SinglePlotAreaManager) getPlotAreaManager()).getArea();
                 addPlotArea(area);
@@ -1574,6 +1638,7 @@ public class PlotSquared {
             throw new IllegalArgumentException("Cannot replace default caption map");
         }
         this.captionMaps.put(namespace.toLowerCase(Locale.ENGLISH), captionMap);
+        CaptionComponentCache.invalidate();
     }
 
     public @NonNull EventDispatcher getEventDispatcher() {
@@ -30,6 +30,7 @@ import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotManager;
+import com.plotsquared.core.queue.ChunkCoordinator;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.PatternUtil;
 import com.plotsquared.core.util.StringMan;
@@ -165,6 +166,7 @@ public class Set extends SubCommand {
                                         TagResolver.resolver("plot", Tag.inserting(Component.text(plot.getId().toString())))
                                 );
                             });
+                            queue.setPriority(ChunkCoordinator.Priority.HIGH);
                             if (Settings.QUEUE.NOTIFY_PROGRESS) {
                                 queue.addProgressSubscriber(
                                         PlotSquared
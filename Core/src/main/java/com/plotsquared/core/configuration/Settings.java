@@ -213,6 +213,20 @@ public class Settings extends Config {
     }
 
 
+    @Comment("Settings for the sweep that checks all plots against the auto clearing tasks")
+    public static final class Expiry_Sweep {
+
+        @Comment("How many threads may evaluate the expiry criteria of plots at the same time")
+        public static int THREADS = 2;
+        @Comment("How many expired plots may be analysed or deleted at the same time")
+        public static int CONCURRENT_CANDIDATES = 2;
+        @Comment({"How many plots are checked between saving the sweep progress",
+                "An interrupted sweep (e.g. by a restart) resumes from the last saved progress"})
+        public static int BATCH_SIZE = 250;
+
+    }
+
+
     @Comment({"Chunk processor related settings",
             "See https://intellectualsites.gitbook.io/plotsquared/optimization/chunk-processor for more information."})
     public static class Chunk_Processor {
@@ -251,6 +265,10 @@ public class Settings extends Config {
         public static long NON_BLOCKING_TIMEOUT = 3000L;
         @Comment("Timeout (in milliseconds) for blocking UUID requests (events)")
         public static long BLOCKING_TIMEOUT = 10L;
+        @Comment({"How long (in milliseconds) to collect requests that could not be answered from the cache before resolving them",
+                "together. Requests that are waited on (e.g. by events) skip this. Identical requests that are already being",
+                "resolved are always shared"})
+        public static long BATCH_WINDOW = 5L;
         @Comment("Whether or not PlotSquared should read from the legacy database")
         public static boolean LEGACY_DATABASE_SUPPORT = true;
         @Comment("Whether or not PlotSquared should return Unknown if it fails to fulfill a request")
@@ -476,6 +494,15 @@ public class Settings extends Config {
 
     }
 
+    @Comment("Placeholder related settings")
+    public static class Placeholders {
+
+        @Comment({"How long (in milliseconds) the values of expensive placeholders are cached for",
+                "Cached values are refreshed early when the plot they belong to changes. Set to 0 to disable the cache"})
+        public static int CACHE_TIME = 5000;
+
+    }
+
 
     @Comment("Miscellaneous settings")
     public static final class Done {
@@ -606,6 +633,17 @@ public class Settings extends Config {
     }
 
 
+    @Comment("Entity cap related settings")
+    public static final class Entity_Caps {
+
+        @Comment({"Seconds after which the tracked entity counts of a plot are recounted (Paper only)",
+                "Counts are kept up to date as entities are added to and removed from the world,",
+                "the recount catches entities moving between plots. Other servers recount every second"})
+        public static int RECOUNT_INTERVAL = 30;
+
+    }
+
+
     @Comment("Rating related settings")
     public static final class Ratings {
 
@@ -666,8 +704,12 @@ public class Settings extends Config {
     public static final class QUEUE {
 
         @Comment({"Average time per tick spent completing chunk tasks in ms.",
+                "This is shared between all running queues, with queues started by players given a larger share.",
                 "Queue will adjust the batch size to match this."})
         public static int MAX_ITERATION_TIME = 30;
+        @Comment({"Lowest time per tick spent completing chunk tasks in ms.",
+                "The time above is lowered towards this when the server takes longer than 50ms per tick."})
+        public static int MIN_ITERATION_TIME = 5;
         @Comment({"Initial number of chunks to process by the queue. This can be increased or",
                 "decreased by the queue based on the actual iteration time compared to above."})
         public static int INITIAL_BATCH_SIZE = 5;
@@ -771,6 +813,12 @@ public class Settings extends Config {
         @Comment("Let players claim entire worlds with PlotSquared")
         public static boolean WORLDS =
                 false;
+        @Comment({"Only load the plots of an area from the database once the area is registered",
+                "Speeds up startup of servers with many plot worlds that are not all loaded at once"})
+        public static boolean LAZY_PLOT_LOADING = false;
+        @Comment({"Minutes after which the plots of an unloaded area are dropped from memory",
+                "Only used with lazy plot loading, a negative value keeps them loaded"})
+        public static int LAZY_PLOT_EVICTION = 10;
         @Comment("Actively purge invalid database entries")
         public static boolean DATABASE_PURGER =
                 false;
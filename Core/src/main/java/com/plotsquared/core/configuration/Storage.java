@@ -49,6 +49,9 @@ public class Storage extends Config {
         @Comment("Set additional properties: https://goo.gl/wngtN8")
         public static List<String>
                 PROPERTIES = new ArrayList<>(Collections.singletonList("useSSL=false"));
+        @Comment({"How many connections plot changes are written on in parallel",
+                " - Changes to the same plot are always written in order on the same connection"})
+        public static int PLOT_WRITERS = 4;
 
     }
 
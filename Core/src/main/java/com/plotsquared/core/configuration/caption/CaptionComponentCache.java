@@ -0,0 +1,103 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.configuration.caption;
+
+import com.intellectualsites.annotations.NotPublic;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of parsed MiniMessage strings. Captions are sent with the same text over and over (e.g. greetings, titles or
+ * border messages on player movement), so every distinct input is only parsed once. As the cache is keyed by the input
+ * text, it can never return a stale component; it is cleared when captions are reloaded to release old entries.
+ * <p>
+ * Only input that is parsed without dynamic {@link TagResolver tag resolvers} can be cached, as resolvers may change the
+ * input before it is parsed.
+ *
+ * @since TODO
+ */
+@NotPublic
+public final class CaptionComponentCache {
+
+    private static final int MAX_SIZE = 4096;
+    private static final Map<String, Component> COMPONENTS = new ConcurrentHashMap<>();
+    private static final Map<PrefixedMessage, Component> PREFIXED_COMPONENTS = new ConcurrentHashMap<>();
+
+    private CaptionComponentCache() {
+    }
+
+    /**
+     * Parse a MiniMessage string, or get the cached result of an earlier parse
+     *
+     * @param message MiniMessage string
+     * @return the parsed component
+     */
+    public static @NonNull Component deserialize(final @NonNull String message) {
+        final Component component = COMPONENTS.get(message);
+        if (component != null) {
+            return component;
+        }
+        if (COMPONENTS.size() >= MAX_SIZE) {
+            COMPONENTS.clear();
+        }
+        return COMPONENTS.computeIfAbsent(message, MiniMessage.miniMessage()::deserialize);
+    }
+
+    /**
+     * Parse a MiniMessage string in which the {@code <prefix>} tag inserts the given prefix, or get the cached result of an
+     * earlier parse
+     *
+     * @param message MiniMessage string
+     * @param prefix  MiniMessage string of the prefix
+     * @return the parsed component
+     */
+    public static @NonNull Component deserialize(final @NonNull String message, final @NonNull String prefix) {
+        final PrefixedMessage key = new PrefixedMessage(message, prefix);
+        final Component component = PREFIXED_COMPONENTS.get(key);
+        if (component != null) {
+            return component;
+        }
+        if (PREFIXED_COMPONENTS.size() >= MAX_SIZE) {
+            PREFIXED_COMPONENTS.clear();
+        }
+        return PREFIXED_COMPONENTS.computeIfAbsent(key, k -> MiniMessage.miniMessage().deserialize(
+                k.message(),
+                TagResolver.resolver("prefix", Tag.inserting(deserialize(k.prefix())))
+        ));
+    }
+
+    /**
+     * Clear all cached components
+     */
+    public static void invalidate() {
+        COMPONENTS.clear();
+        PREFIXED_COMPONENTS.clear();
+    }
+
+    private record PrefixedMessage(String message, String prefix) {
+
+    }
+
+}
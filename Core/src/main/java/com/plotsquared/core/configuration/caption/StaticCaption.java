@@ -20,7 +20,6 @@ package com.plotsquared.core.configuration.caption;
 
 import com.google.common.base.Preconditions;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
 public final class StaticCaption implements Caption {
@@ -48,7 +47,7 @@ public final class StaticCaption implements Caption {
 
     @Override
     public @NonNull Component toComponent(@NonNull final LocaleHolder localeHolder) {
-        return MiniMessage.miniMessage().deserialize(this.value);
+        return CaptionComponentCache.deserialize(this.value);
     }
 
     @Override
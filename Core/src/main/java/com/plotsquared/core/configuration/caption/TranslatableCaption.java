@@ -21,9 +21,6 @@ package com.plotsquared.core.configuration.caption;
 import com.google.common.base.Objects;
 import com.plotsquared.core.PlotSquared;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-import net.kyori.adventure.text.minimessage.tag.Tag;
-import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.jetbrains.annotations.NotNull;
 
@@ -97,12 +94,12 @@ public final class TranslatableCaption implements NamespacedCaption {
     @Override
     public @NonNull Component toComponent(@NonNull final LocaleHolder localeHolder) {
         if (getKey().equals("core.prefix")) {
-            return MiniMessage.miniMessage().deserialize(getComponent(localeHolder));
+            return CaptionComponentCache.deserialize(getComponent(localeHolder));
         }
-        return MiniMessage.miniMessage().deserialize(getComponent(localeHolder), TagResolver.resolver(
-                "prefix",
-                Tag.inserting(TranslatableCaption.of("core.prefix").toComponent(localeHolder))
-        ));
+        return CaptionComponentCache.deserialize(
+                getComponent(localeHolder),
+                TranslatableCaption.of("core.prefix").getComponent(localeHolder)
+        );
     }
 
     @Override
@@ -27,6 +27,7 @@ import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.util.task.RunnableVal;
 import org.checkerframework.checker.nullness.qual.NonNull;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -139,6 +140,16 @@ public interface AbstractDB {
      */
     HashMap<String, HashMap<PlotId, Plot>> getPlots();
 
+    /**
+     * @param areaIds the areas to load the plots of
+     * @return A HashMap containing the plots of the given areas
+     */
+    default HashMap<String, HashMap<PlotId, Plot>> getPlots(Collection<String> areaIds) {
+        HashMap<String, HashMap<PlotId, Plot>> plots = getPlots();
+        plots.keySet().retainAll(areaIds);
+        return plots;
+    }
+
     /**
      * @param toValidate
      */
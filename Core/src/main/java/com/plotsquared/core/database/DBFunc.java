@@ -29,6 +29,7 @@ import com.plotsquared.core.util.task.RunnableVal;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -320,6 +321,24 @@ public class DBFunc {
         return DBFunc.dbManager.getPlots();
     }
 
+    /**
+     * @param areaIds the areas to load the plots of
+     * @return Plots of the given areas
+     */
+    public static HashMap<String, HashMap<PlotId, Plot>> getPlots(Collection<String> areaIds) {
+        if (dbManager == null) {
+            return new HashMap<>();
+        }
+        return DBFunc.dbManager.getPlots(areaIds);
+    }
+
+    /**
+     * @return if the database has queued writes that are not committed yet
+     */
+    public static boolean hasPendingTasks() {
+        return dbManager instanceof SQLManager sqlManager && sqlManager.getQueueDepth() > 0;
+    }
+
     public static void setMerged(Plot plot, boolean[] merged) {
         if (plot.temp == -1 || dbManager == null) {
             return;
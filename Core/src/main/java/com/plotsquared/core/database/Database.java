@@ -21,6 +21,7 @@ package com.plotsquared.core.database;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 
 /**
@@ -42,6 +43,31 @@ public abstract class Database {
      */
     public abstract Connection openConnection() throws SQLException, ClassNotFoundException;
 
+    /**
+     * Opens a new connection with the database that is independent of the connection
+     * returned by {@link #getConnection()}. The caller is responsible for closing it.
+     * <p>
+     * This is not supported unless {@link #canCreateConnections()} returns {@code true}.
+     *
+     * @return New connection
+     * @throws SQLException           if the connection can not be opened
+     * @throws ClassNotFoundException if the driver cannot be found
+     * @since TODO
+     */
+    public Connection createConnection() throws SQLException, ClassNotFoundException {
+        throw new SQLFeatureNotSupportedException(getClass().getSimpleName() + " does not support additional connections");
+    }
+
+    /**
+     * Whether {@link #createConnection()} is supported by this database.
+     *
+     * @return {@code true} if additional connections can be opened
+     * @since TODO
+     */
+    public boolean canCreateConnections() {
+        return false;
+    }
+
     /**
      * Checks if a connection is open with the database.
      *
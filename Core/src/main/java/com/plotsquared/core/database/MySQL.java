@@ -26,6 +26,8 @@ import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Connects to and uses a MySQL database
@@ -62,12 +64,27 @@ public class MySQL extends Database {
 
     @Override
     public Connection forceConnection() throws SQLException {
-        this.connection = DriverManager.getConnection(
-                "jdbc:mysql://" + this.hostname + ':' + this.port + '/' + this.database + "?"
-                        + StringMan.join(Storage.MySQL.PROPERTIES, "&"), this.user, this.password);
+        this.connection = createConnection();
         return this.connection;
     }
 
+    @Override
+    public boolean canCreateConnections() {
+        return true;
+    }
+
+    @Override
+    public Connection createConnection() throws SQLException {
+        final List<String> properties = new ArrayList<>(Storage.MySQL.PROPERTIES);
+        // Let the driver send batched inserts as multi-row statements, unless configured otherwise
+        if (properties.stream().noneMatch(property -> property.startsWith("rewriteBatchedStatements="))) {
+            properties.add("rewriteBatchedStatements=true");
+        }
+        return DriverManager.getConnection(
+                "jdbc:mysql://" + this.hostname + ':' + this.port + '/' + this.database + "?"
+                        + StringMan.join(properties, "&"), this.user, this.password);
+    }
+
     @Override
     public Connection openConnection() throws SQLException {
         if (checkConnection()) {
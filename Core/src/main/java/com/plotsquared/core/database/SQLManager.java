@@ -47,6 +47,7 @@ import com.plotsquared.core.util.task.TaskManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
@@ -59,6 +60,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -69,10 +71,18 @@ import java.util.Map.Entry;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 
 @SuppressWarnings("SqlDialectInspection")
@@ -129,9 +139,37 @@ public class SQLManager implements AbstractDB {
      */
     public volatile ConcurrentHashMap<PlotCluster, Queue<UniqueStatement>> clusterTasks;
     // Private
+    /**
+     * Signalled whenever a task is queued, so the writer thread does not need to poll
+     */
+    private final Object taskSignal = new Object();
+    /**
+     * Number of queued statements and global tasks that have not been executed yet
+     */
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong commitCount = new AtomicLong();
+    private final AtomicLong commitNanos = new AtomicLong();
+    /**
+     * Number of global tasks queued so far, guarded by this manager's monitor
+     */
+    private long globalTasksQueued = 0;
+    /**
+     * Number of global tasks written so far. Plot writers only write tasks that were queued after these.
+     */
+    private volatile long globalTasksWritten = 0;
+    /**
+     * The plot writer of the current thread, if it is one
+     */
+    private final ThreadLocal<PlotWriter> currentWriter = new ThreadLocal<>();
+    /**
+     * Writers that write plot tasks on connections of their own, or {@code null} if plot tasks are
+     * written by the main writer thread
+     */
+    private final PlotWriter @Nullable [] plotWriters;
+    private boolean taskSignalled = false;
     private Connection connection;
     private boolean supportsGetGeneratedKeys;
-    private boolean closed = false;
+    private volatile boolean closed = false;
 
     /**
      * Constructor
@@ -213,43 +251,138 @@ public class SQLManager implements AbstractDB {
         } catch (SQLException e) {
             e.printStackTrace();
         }
+        this.plotWriters = createPlotWriters();
         TaskManager.runTaskAsync(() -> {
             long last = System.currentTimeMillis();
             while (!SQLManager.this.closed) {
-                boolean hasTask =
-                        !globalTasks.isEmpty() || !playerTasks.isEmpty() || !plotTasks.isEmpty()
-                                || !clusterTasks.isEmpty();
-                if (hasTask) {
+                if (hasTasks()) {
                     if (SQLManager.this.mySQL && System.currentTimeMillis() - last > 550000
                             || !isValid()) {
                         last = System.currentTimeMillis();
                         reconnect();
                     }
                     if (!sendBatch()) {
-                        try {
-                            if (!getNotifyTasks().isEmpty()) {
-                                for (Runnable task : getNotifyTasks()) {
-                                    TaskManager.runTask(task);
-                                }
-                                getNotifyTasks().clear();
-                            }
-                            Thread.sleep(50);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
+                        runNotifyTasks();
+                        awaitTask(50);
                     }
                 } else {
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
+                    // Plot writers may have queued notify tasks
+                    runNotifyTasks();
+                    awaitTask(1000);
                 }
             }
         });
+        if (this.plotWriters != null) {
+            for (final PlotWriter writer : this.plotWriters) {
+                TaskManager.runTaskAsync(writer);
+            }
+        }
+    }
+
+    /**
+     * Create the writers that write plot tasks in parallel. This is only done for MySQL, as SQLite only allows a
+     * single writer. Tasks of a plot are always written by the same writer, so they are written in order.
+     *
+     * @return the writers, or {@code null} if plot tasks are written by the main writer thread
+     */
+    private PlotWriter @Nullable [] createPlotWriters() {
+        if (!this.mySQL || !this.database.canCreateConnections() || Storage.MySQL.PLOT_WRITERS <= 1) {
+            return null;
+        }
+        final PlotWriter[] writers = new PlotWriter[Storage.MySQL.PLOT_WRITERS];
+        for (int i = 0; i < writers.length; i++) {
+            try {
+                writers[i] = new PlotWriter(this.database.createConnection());
+            } catch (SQLException | ClassNotFoundException e) {
+                LOGGER.warn("Could not open a connection for plot writer #{}, writing plots on a single connection", i, e);
+                for (int j = 0; j < i; j++) {
+                    writers[j].closeConnection();
+                }
+                return null;
+            }
+        }
+        return writers;
+    }
+
+    private void runNotifyTasks() {
+        // Plot writers add to the queue concurrently, so only remove what is run
+        Runnable task;
+        while ((task = getNotifyTasks().poll()) != null) {
+            TaskManager.runTask(task);
+        }
+    }
+
+    /**
+     * Get the connection statements should be prepared on. This is the connection of the plot writer when called
+     * from one, and the main connection otherwise.
+     *
+     * @return the connection of the current writer
+     */
+    private Connection currentConnection() {
+        final PlotWriter writer = this.currentWriter.get();
+        return writer == null ? this.connection : writer.connection;
+    }
+
+    private boolean hasTasks() {
+        return !globalTasks.isEmpty() || !playerTasks.isEmpty() || !plotTasks.isEmpty()
+                || !clusterTasks.isEmpty();
+    }
+
+    /**
+     * Block the writer thread until a task is queued, or the timeout has passed.
+     *
+     * @param timeout maximum time to wait, in milliseconds
+     */
+    private void awaitTask(final long timeout) {
+        synchronized (this.taskSignal) {
+            if (!this.taskSignalled && !this.closed) {
+                try {
+                    this.taskSignal.wait(timeout);
+                } catch (InterruptedException e) {
+                    e.printStackTrace();
+                }
+            }
+            this.taskSignalled = false;
+        }
+    }
+
+    private void signalTask() {
+        this.queueDepth.incrementAndGet();
+        signalMainWriter();
+    }
+
+    private void signalMainWriter() {
+        synchronized (this.taskSignal) {
+            this.taskSignalled = true;
+            this.taskSignal.notifyAll();
+        }
+    }
+
+    /**
+     * Get the number of statements and global tasks that are queued but have not been
+     * written to the database yet.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+        return Math.max(0, this.queueDepth.get());
+    }
+
+    /**
+     * Get the average time it took to commit a batch of statements to the database.
+     *
+     * @return average commit latency in milliseconds, or {@code 0} if nothing has been committed yet
+     */
+    public double getAverageCommitLatency() {
+        final long count = this.commitCount.get();
+        return count == 0 ? 0 : this.commitNanos.get() / (count * 1_000_000D);
     }
 
     public boolean isValid() {
+        return isValid(this.connection);
+    }
+
+    private static boolean isValid(final Connection connection) {
         try {
             if (connection.isClosed()) {
                 return false;
@@ -257,7 +390,7 @@ public class SQLManager implements AbstractDB {
         } catch (SQLException e) {
             return false;
         }
-        try (PreparedStatement stmt = this.connection.prepareStatement("SELECT 1")) {
+        try (PreparedStatement stmt = connection.prepareStatement("SELECT 1")) {
             stmt.execute();
             return true;
         } catch (Throwable e) {
@@ -284,10 +417,14 @@ public class SQLManager implements AbstractDB {
     }
 
     public synchronized void addPlotTask(@NonNull Plot plot, UniqueStatement task) {
-        Queue<UniqueStatement> tasks = this.plotTasks.get(plot);
+        final PlotWriter writer = this.plotWriters == null ? null
+                // The plot id changes on swap and move, so route by identity to keep the plot on one writer
+                : this.plotWriters[Math.floorMod(System.identityHashCode(plot), this.plotWriters.length)];
+        final Map<Plot, Queue<UniqueStatement>> plotTasks = writer == null ? this.plotTasks : writer.tasks;
+        Queue<UniqueStatement> tasks = plotTasks.get(plot);
         if (tasks == null) {
             tasks = new ConcurrentLinkedQueue<>();
-            this.plotTasks.put(plot, tasks);
+            plotTasks.put(plot, tasks);
         }
         if (task == null) {
             task = new UniqueStatement(String.valueOf(plot.hashCode())) {
@@ -311,7 +448,23 @@ public class SQLManager implements AbstractDB {
 
             };
         }
+        if (task.key != null) {
+            // A queued write of the same value is superseded by this one
+            for (final UniqueStatement queued : tasks) {
+                // The writer may have taken the statement already, only count what was removed here
+                if (task.key.equals(queued.key) && tasks.remove(queued)) {
+                    this.queueDepth.decrementAndGet();
+                }
+            }
+        }
+        task.globalTasksBefore = this.globalTasksQueued;
         tasks.add(task);
+        if (writer == null) {
+            signalTask();
+        } else {
+            this.queueDepth.incrementAndGet();
+            writer.signal();
+        }
     }
 
     public synchronized void addPlayerTask(UUID uuid, UniqueStatement task) {
@@ -346,6 +499,7 @@ public class SQLManager implements AbstractDB {
             };
         }
         tasks.add(task);
+        signalTask();
     }
 
     public synchronized void addClusterTask(PlotCluster cluster, UniqueStatement task) {
@@ -377,25 +531,102 @@ public class SQLManager implements AbstractDB {
             };
         }
         tasks.add(task);
+        signalTask();
     }
 
     public synchronized void addGlobalTask(Runnable task) {
+        this.globalTasksQueued++;
         getGlobalTasks().add(task);
+        signalTask();
     }
 
     public synchronized void addNotifyTask(Runnable task) {
         if (task != null) {
-            getNotifyTasks().add(task);
+            final PlotWriter writer = this.currentWriter.get();
+            if (writer != null) {
+                // Only notify once the plot writer committed its changes
+                writer.notifyTasks.add(task);
+            } else {
+                getNotifyTasks().add(task);
+            }
+        }
+    }
+
+    /**
+     * Queue a task to run once the tasks queued for the plot so far are committed.
+     *
+     * @param plot plot the task waits for
+     * @param task task to run on the main thread
+     */
+    private void addNotifyTask(final Plot plot, final @Nullable Runnable task) {
+        if (task == null) {
+            return;
+        }
+        if (this.plotWriters == null) {
+            addNotifyTask(task);
+            return;
+        }
+        // Written by the plot's writer, which holds on to the task until it committed
+        addPlotTask(plot, new UniqueStatement("notify") {
+            @Override
+            public PreparedStatement get() {
+                return null;
+            }
+
+            @Override
+            public void set(PreparedStatement statement) {
+            }
+
+            @Override
+            public void addBatch(PreparedStatement statement) {
+                addNotifyTask(task);
+            }
+
+            @Override
+            public void execute(PreparedStatement statement) {
+            }
+        });
+    }
+
+    /**
+     * Block until every plot writer wrote the tasks that were queued before the next global task.
+     */
+    private void awaitPlotWriters() {
+        for (final PlotWriter writer : this.plotWriters) {
+            synchronized (writer.lock) {
+                while (!this.closed && writer.hasWritableTasks()) {
+                    writer.signal();
+                    try {
+                        writer.lock.wait(50);
+                    } catch (InterruptedException e) {
+                        e.printStackTrace();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    private void signalPlotWriters() {
+        if (this.plotWriters != null) {
+            for (final PlotWriter writer : this.plotWriters) {
+                writer.signal();
+            }
         }
     }
 
     public boolean sendBatch() {
         try {
             if (!getGlobalTasks().isEmpty()) {
+                if (this.plotWriters != null) {
+                    // Plot tasks queued before this global task must be written first
+                    awaitPlotWriters();
+                }
                 if (this.connection.getAutoCommit()) {
                     this.connection.setAutoCommit(false);
                 }
                 Runnable task = getGlobalTasks().remove();
+                this.queueDepth.decrementAndGet();
                 if (task != null) {
                     try {
                         task.run();
@@ -409,63 +640,13 @@ public class SQLManager implements AbstractDB {
                     }
                 }
                 commit();
+                this.globalTasksWritten++;
+                signalPlotWriters();
                 return true;
             }
             int count = -1;
             if (!this.plotTasks.isEmpty()) {
-                count = Math.max(count, 0);
-                if (this.connection.getAutoCommit()) {
-                    this.connection.setAutoCommit(false);
-                }
-                String method = null;
-                PreparedStatement statement = null;
-                UniqueStatement task = null;
-                UniqueStatement lastTask = null;
-                Iterator<Entry<Plot, Queue<UniqueStatement>>> iterator =
-                        this.plotTasks.entrySet().iterator();
-                while (iterator.hasNext()) {
-                    try {
-                        Entry<Plot, Queue<UniqueStatement>> entry = iterator.next();
-                        Queue<UniqueStatement> tasks = entry.getValue();
-                        if (tasks.isEmpty()) {
-                            iterator.remove();
-                            continue;
-                        }
-                        task = tasks.remove();
-                        count++;
-                        if (task != null) {
-                            if (task.method == null || !task.method.equals(method)
-                                    || statement == null) {
-                                if (statement != null) {
-                                    lastTask.execute(statement);
-                                    statement.close();
-                                }
-                                method = task.method;
-                                statement = task.get();
-                            }
-                            task.set(statement);
-                            task.addBatch(statement);
-                            try {
-                                if (statement.isClosed()) {
-                                    statement = null;
-                                }
-                            } catch (NullPointerException | AbstractMethodError ignore) {
-                            }
-                        }
-                        lastTask = task;
-                    } catch (Throwable e) {
-                        LOGGER.error("============ DATABASE ERROR ============");
-                        LOGGER.error("There was an error updating the database.");
-                        LOGGER.error(" - It will be corrected on shutdown");
-                        LOGGER.error("========================================");
-                        e.printStackTrace();
-                        LOGGER.error("========================================");
-                    }
-                }
-                if (statement != null && task != null) {
-                    task.execute(statement);
-                    statement.close();
-                }
+                count = Math.max(count, 0) + sendPlotTasks(this.plotTasks, this.connection, Long.MAX_VALUE);
             }
             if (!this.playerTasks.isEmpty()) {
                 count = Math.max(count, 0);
@@ -484,6 +665,7 @@ public class SQLManager implements AbstractDB {
                             continue;
                         }
                         task = this.playerTasks.get(uuid).remove();
+                        this.queueDepth.decrementAndGet();
                         count++;
                         if (task != null) {
                             if (task.method == null || !task.method.equals(method)) {
@@ -530,6 +712,7 @@ public class SQLManager implements AbstractDB {
                             continue;
                         }
                         task = this.clusterTasks.get(cluster).remove();
+                        this.queueDepth.decrementAndGet();
                         count++;
                         if (task != null) {
                             if (task.method == null || !task.method.equals(method)) {
@@ -584,6 +767,87 @@ public class SQLManager implements AbstractDB {
         return false;
     }
 
+    /**
+     * Write one statement of every plot with queued tasks, batching consecutive statements of the same kind.
+     *
+     * @param plotTasks          queued tasks by plot
+     * @param connection         connection the statements are prepared on
+     * @param globalTasksWritten number of written global tasks, tasks queued after more global tasks are held back
+     * @return the number of tasks that were written
+     * @throws SQLException if the connection cannot be used
+     */
+    private int sendPlotTasks(
+            final Map<Plot, Queue<UniqueStatement>> plotTasks,
+            final Connection connection,
+            final long globalTasksWritten
+    ) throws SQLException {
+        int count = 0;
+        if (connection.getAutoCommit()) {
+            connection.setAutoCommit(false);
+        }
+        String method = null;
+        PreparedStatement statement = null;
+        UniqueStatement task = null;
+        UniqueStatement lastTask = null;
+        Iterator<Entry<Plot, Queue<UniqueStatement>>> iterator =
+                plotTasks.entrySet().iterator();
+        while (iterator.hasNext()) {
+            try {
+                Entry<Plot, Queue<UniqueStatement>> entry = iterator.next();
+                Queue<UniqueStatement> tasks = entry.getValue();
+                final UniqueStatement next = tasks.peek();
+                if (next == null) {
+                    synchronized (this) {
+                        // addPlotTask may have added to the queue in the meantime
+                        if (tasks.isEmpty()) {
+                            iterator.remove();
+                        }
+                    }
+                    continue;
+                }
+                if (next.globalTasksBefore > globalTasksWritten || !tasks.remove(next)) {
+                    // Waits for a global task, or was superseded by a newer statement
+                    continue;
+                }
+                task = next;
+                this.queueDepth.decrementAndGet();
+                count++;
+                if (task != null) {
+                    if (task.method == null || !task.method.equals(method)
+                            || statement == null) {
+                        if (statement != null) {
+                            lastTask.execute(statement);
+                            statement.close();
+                        }
+                        method = task.method;
+                        statement = task.get();
+                    }
+                    task.set(statement);
+                    task.addBatch(statement);
+                    try {
+                        if (statement.isClosed()) {
+                            statement = null;
+                        }
+                    } catch (NullPointerException | AbstractMethodError ignore) {
+                    }
+                }
+                lastTask = task;
+            } catch (Throwable e) {
+                LOGGER.error("============ DATABASE ERROR ============");
+                LOGGER.error("There was an error updating the database.");
+                LOGGER.error(" - It will be corrected on shutdown");
+                LOGGER.error("========================================");
+                e.printStackTrace();
+                LOGGER.error("========================================");
+            }
+        }
+        if (statement != null && task != null) {
+            task.execute(statement);
+            statement.close();
+        }
+        return count;
+    }
+
     public Connection getConnection() {
         return this.connection;
     }
@@ -596,7 +860,7 @@ public class SQLManager implements AbstractDB {
      */
     @Override
     public void setOwner(final Plot plot, final UUID uuid) {
-        addPlotTask(plot, new UniqueStatement("setOwner") {
+        addPlotTask(plot, new UniqueStatement("setOwner", "owner") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setString(1, uuid.toString());
@@ -607,7 +871,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(SQLManager.this.SET_OWNER);
+                return SQLManager.this.currentConnection().prepareStatement(SQLManager.this.SET_OWNER);
             }
         });
     }
@@ -1083,7 +1347,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         SQLManager.this.CREATE_PLOT_SAFE,
                         Statement.RETURN_GENERATED_KEYS
                 );
@@ -1110,7 +1374,7 @@ public class SQLManager implements AbstractDB {
 
                                 @Override
                                 public PreparedStatement get() throws SQLException {
-                                    return SQLManager.this.connection.prepareStatement(
+                                    return SQLManager.this.currentConnection().prepareStatement(
                                             "INSERT INTO `" + SQLManager.this.prefix
                                                     + "plot_settings`(`plot_plot_id`) VALUES(?)");
                                 }
@@ -1134,9 +1398,13 @@ public class SQLManager implements AbstractDB {
             return;
         }
         try {
-            if (!this.connection.getAutoCommit()) {
-                this.connection.commit();
-                this.connection.setAutoCommit(true);
+            final Connection connection = currentConnection();
+            if (!connection.getAutoCommit()) {
+                final long start = System.nanoTime();
+                connection.commit();
+                this.commitNanos.addAndGet(System.nanoTime() - start);
+                this.commitCount.incrementAndGet();
+                connection.setAutoCommit(true);
             }
         } catch (SQLException e) {
             e.printStackTrace();
@@ -1157,7 +1425,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection
+                return SQLManager.this.currentConnection()
                         .prepareStatement(SQLManager.this.CREATE_PLOT, Statement.RETURN_GENERATED_KEYS);
             }
 
@@ -1183,12 +1451,12 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_settings`(`plot_plot_id`) VALUES(?)");
             }
         });
-        addNotifyTask(whenDone);
+        addNotifyTask(plot, whenDone);
     }
 
     /**
@@ -1361,7 +1629,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_settings` WHERE `plot_plot_id` = ?");
             }
@@ -1381,7 +1649,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_helpers` WHERE `plot_plot_id` = ?");
             }
@@ -1401,7 +1669,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_trusted` WHERE `plot_plot_id` = ?");
             }
@@ -1421,7 +1689,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_denied` WHERE `plot_plot_id` = ?");
             }
@@ -1439,7 +1707,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `world` = ? AND `hashcode` = ?");
             }
@@ -1459,7 +1727,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_rating` WHERE `plot_plot_id` = ?");
             }
@@ -1487,7 +1755,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "plot` WHERE `id` = ?");
             }
         });
@@ -1509,7 +1777,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_settings`(`plot_plot_id`) VALUES(?)");
             }
@@ -1567,7 +1835,7 @@ public class SQLManager implements AbstractDB {
                 return plot.temp;
             }
             int id;
-            try (PreparedStatement statement = this.connection.prepareStatement(
+            try (PreparedStatement statement = currentConnection().prepareStatement(
                     "SELECT `id` FROM `" + this.prefix
                             + "plot` WHERE `plot_id_x` = ? AND `plot_id_z` = ? AND world = ? ORDER BY `timestamp` ASC")) {
                 statement.setInt(1, plot.getId().getX());
@@ -1815,6 +2083,25 @@ public class SQLManager implements AbstractDB {
      */
     @Override
     public HashMap<String, HashMap<PlotId, Plot>> getPlots() {
+        return loadPlots(null);
+    }
+
+    @Override
+    public HashMap<String, HashMap<PlotId, Plot>> getPlots(final @NonNull Collection<String> areaIds) {
+        if (areaIds.isEmpty()) {
+            return new HashMap<>();
+        }
+        return loadPlots(areaIds);
+    }
+
+    /**
+     * Load plots, helpers, denied, trusted, and every setting from DB into a {@link HashMap}.
+     *
+     * @param areaIds the areas (as stored in the {@code world} column) to load the plots of,
+     *                or {@code null} to load every plot
+     * @return the loaded plots, by area and plot id
+     */
+    private HashMap<String, HashMap<PlotId, Plot>> loadPlots(final @Nullable Collection<String> areaIds) {
         HashMap<String, HashMap<PlotId, Plot>> newPlots = new HashMap<>();
         HashMap<Integer, Plot> plots = new HashMap<>();
         try {
@@ -1843,13 +2130,15 @@ public class SQLManager implements AbstractDB {
             /*
              * Getting plots
              */
-            try (Statement statement = this.connection.createStatement()) {
+            final long start = System.currentTimeMillis();
+            try (PreparedStatement statement = prepareAreaQuery(this.connection,
+                    "SELECT `id`, `plot_id_x`, `plot_id_z`, `owner`, `world`, `timestamp` FROM `" + this.prefix + "plot`",
+                    null, areaIds
+            )) {
                 int id;
                 String o;
                 UUID user;
-                try (ResultSet resultSet = statement.executeQuery(
-                        "SELECT `id`, `plot_id_x`, `plot_id_z`, `owner`, `world`, `timestamp` FROM `"
-                                + this.prefix + "plot`")) {
+                try (ResultSet resultSet = statement.executeQuery()) {
                     ArrayList<Integer> toDelete = new ArrayList<>();
                     while (resultSet.next()) {
                         PlotId plot_id = PlotId.of(
@@ -1904,8 +2193,8 @@ public class SQLManager implements AbstractDB {
                                 time = System.currentTimeMillis() + id;
                             }
                         }
-                        Plot p = new Plot(plot_id, user, new HashSet<>(), new HashSet<>(),
-                                new HashSet<>(), "", null, null, null,
+                        // Player lists are created by the plot when a player is first added
+                        Plot p = new Plot(plot_id, user, null, null, null, "", null, null, null,
                                 new boolean[]{false, false, false, false}, time, id
                         );
                         HashMap<PlotId, Plot> map = newPlots.get(areaID);
@@ -1933,218 +2222,28 @@ public class SQLManager implements AbstractDB {
                     }
                     deleteRows(toDelete, this.prefix + "plot", "id");
                 }
-                if (Settings.Enabled_Components.RATING_CACHE) {
-                    try (ResultSet r = statement.executeQuery(
-                            "SELECT `plot_plot_id`, `player`, `rating` FROM `" + this.prefix
-                                    + "plot_rating`")) {
-                        ArrayList<Integer> toDelete = new ArrayList<>();
-                        while (r.next()) {
-                            id = r.getInt("plot_plot_id");
-                            o = r.getString("player");
-                            user = uuids.get(o);
-                            if (user == null) {
-                                user = UUID.fromString(o);
-                                uuids.put(o, user);
-                            }
-                            Plot plot = plots.get(id);
-                            if (plot != null) {
-                                plot.getSettings().getRatings().put(user, r.getInt("rating"));
-                            } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                                toDelete.add(id);
-                            } else {
-                                LOGGER.warn("Entry #{}({}) in `plot_rating` does not exist."
-                                        + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                            }
-                        }
-                        deleteRows(toDelete, this.prefix + "plot_rating", "plot_plot_id");
-                    }
-                }
-
-                /*
-                 * Getting helpers
-                 */
-                try (ResultSet r = statement.executeQuery(
-                        "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_helpers`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
-                        if (user == null) {
-                            user = UUID.fromString(o);
-                            uuids.put(o, user);
-                        }
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plot.getTrusted().add(user);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_helpers` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_helpers", "plot_plot_id");
-                }
-
-                /*
-                 * Getting trusted
-                 */
-                try (ResultSet r = statement.executeQuery(
-                        "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_trusted`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
-                        if (user == null) {
-                            user = UUID.fromString(o);
-                            uuids.put(o, user);
-                        }
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plot.getMembers().add(user);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_trusted` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_trusted", "plot_plot_id");
-                }
-
-                /*
-                 * Getting denied
-                 */
-                try (ResultSet r = statement.executeQuery(
-                        "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + "plot_denied`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (r.next()) {
-                        id = r.getInt("plot_plot_id");
-                        o = r.getString("user_uuid");
-                        user = uuids.get(o);
-                        if (user == null) {
-                            user = UUID.fromString(o);
-                            uuids.put(o, user);
-                        }
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plot.getDenied().add(user);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_denied` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_denied", "plot_plot_id");
-                }
-
-                try (final ResultSet resultSet = statement
-                        .executeQuery("SELECT * FROM `" + this.prefix + "plot_flags`")) {
-                    BlockTypeListFlag.skipCategoryVerification =
-                            true; // allow invalid tags, as initialized lazily
-                    final ArrayList<Integer> toDelete = new ArrayList<>();
-                    final Map<Plot, Collection<PlotFlag<?, ?>>> invalidFlags = new HashMap<>();
-                    while (resultSet.next()) {
-                        id = resultSet.getInt("plot_id");
-                        final String flag = resultSet.getString("flag");
-                        String value = resultSet.getString("value");
-                        final Plot plot = plots.get(id);
-                        if (plot != null) {
-                            final PlotFlag<?, ?> plotFlag =
-                                    GlobalFlagContainer.getInstance().getFlagFromString(flag);
-                            if (plotFlag == null) {
-                                plot.getFlagContainer().addUnknownFlag(flag, value);
-                            } else {
-                                value = CaptionUtility.stripClickEvents(plotFlag, value);
-                                try {
-                                    plot.getFlagContainer().addFlag(plotFlag.parse(value));
-                                } catch (final FlagParseException e) {
-                                    e.printStackTrace();
-                                    LOGGER.error("Plot with ID {} has an invalid value:", id);
-                                    LOGGER.error("Failed to parse flag '{}', value '{}': {}",
-                                            plotFlag.getName(), e.getValue(), e.getErrorMessage()
-                                    );
-                                    if (!invalidFlags.containsKey(plot)) {
-                                        invalidFlags.put(plot, new ArrayList<>());
-                                    }
-                                    invalidFlags.get(plot).add(plotFlag);
-                                }
-                            }
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_flags` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    BlockTypeListFlag.skipCategoryVerification =
-                            false; // don't allow invalid tags anymore
-                    if (Settings.Enabled_Components.DATABASE_PURGER) {
-                        for (final Map.Entry<Plot, Collection<PlotFlag<?, ?>>> plotFlagEntry : invalidFlags
-                                .entrySet()) {
-                            for (final PlotFlag<?, ?> flag : plotFlagEntry.getValue()) {
-                                LOGGER.info(
-                                        "Plot {} has an invalid flag ({}). A fix has been attempted",
-                                        plotFlagEntry.getKey(), flag.getName()
-                                );
-                                removeFlag(plotFlagEntry.getKey(), flag);
-                            }
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_flags", "plot_id");
-                }
-
-                try (ResultSet resultSet = statement
-                        .executeQuery("SELECT * FROM `" + this.prefix + "plot_settings`")) {
-                    ArrayList<Integer> toDelete = new ArrayList<>();
-                    while (resultSet.next()) {
-                        id = resultSet.getInt("plot_plot_id");
-                        Plot plot = plots.get(id);
-                        if (plot != null) {
-                            plots.remove(id);
-                            String alias = resultSet.getString("alias");
-                            if (alias != null) {
-                                plot.getSettings().setAlias(alias);
-                            }
-                            String pos = resultSet.getString("position");
-                            switch (pos.toLowerCase()) {
-                                case "":
-                                case "default":
-                                case "0,0,0":
-                                case "center":
-                                case "centre":
-                                    break;
-                                default:
-                                    try {
-                                        plot.getSettings().setPosition(BlockLoc.fromString(pos));
-                                    } catch (Exception ignored) {
-                                    }
-                            }
-                            int m = resultSet.getInt("merged");
-                            boolean[] merged = new boolean[4];
-                            for (int i = 0; i < 4; i++) {
-                                merged[3 - i] = (m & 1 << i) != 0;
-                            }
-                            plot.getSettings().setMerged(merged);
-                        } else if (Settings.Enabled_Components.DATABASE_PURGER) {
-                            toDelete.add(id);
-                        } else {
-                            LOGGER.warn("Entry #{}({}) in `plot_settings` does not exist."
-                                    + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
-                        }
-                    }
-                    deleteRows(toDelete, this.prefix + "plot_settings", "plot_plot_id");
-                }
             }
-            if (!plots.entrySet().isEmpty()) {
-                createEmptySettings(new ArrayList<>(plots.keySet()), null);
-                for (Entry<Integer, Plot> entry : plots.entrySet()) {
+            if (Settings.DEBUG) {
+                LOGGER.info("Loaded {} plots from `{}plot` in {}ms", plots.size(), this.prefix,
+                        System.currentTimeMillis() - start
+                );
+            }
+
+            /*
+             * The other tables only attach data to the loaded plots, so they are read concurrently
+             */
+            final Set<Integer> withSettings = loadPlotData(plots, areaIds);
+            final ArrayList<Integer> withoutSettings = new ArrayList<>();
+            for (Entry<Integer, Plot> entry : plots.entrySet()) {
+                if (!withSettings.contains(entry.getKey())) {
+                    withoutSettings.add(entry.getKey());
                     entry.getValue().getSettings();
                 }
             }
+            if (!withoutSettings.isEmpty()) {
+                createEmptySettings(withoutSettings, null);
+            }
+            LOGGER.info("Loaded {} plots from the database in {}ms", plots.size(), System.currentTimeMillis() - start);
             boolean invalidPlot = false;
             for (Entry<String, AtomicInteger> entry : noExist.entrySet()) {
                 String worldName = entry.getKey();
@@ -2164,10 +2263,314 @@ public class SQLManager implements AbstractDB {
         return newPlots;
     }
 
+    /**
+     * Load the ratings, members, flags and settings of the given plots. Each table is read on
+     * a connection of its own, so that the tables are read in parallel.
+     *
+     * @param plots   loaded plots by their database id
+     * @param areaIds the areas the plots were loaded for, or {@code null} if every plot was loaded
+     * @return the database ids of the plots that have a settings row
+     * @throws SQLException if one of the tables could not be read
+     */
+    private Set<Integer> loadPlotData(
+            final Map<Integer, Plot> plots,
+            final @Nullable Collection<String> areaIds
+    ) throws SQLException {
+        final Set<Integer> withSettings = ConcurrentHashMap.newKeySet();
+        final List<PlotDataTable> tables = new ArrayList<>();
+        if (Settings.Enabled_Components.RATING_CACHE) {
+            tables.add(new PlotDataTable("plot_rating", "plot_plot_id",
+                    (connection, toDelete) -> loadRatings(connection, plots, areaIds, toDelete)
+            ));
+        }
+        tables.add(new PlotDataTable("plot_helpers", "plot_plot_id",
+                (connection, toDelete) -> loadPlayers(connection, "plot_helpers", plots, areaIds, Plot::getTrusted, toDelete)
+        ));
+        tables.add(new PlotDataTable("plot_trusted", "plot_plot_id",
+                (connection, toDelete) -> loadPlayers(connection, "plot_trusted", plots, areaIds, Plot::getMembers, toDelete)
+        ));
+        tables.add(new PlotDataTable("plot_denied", "plot_plot_id",
+                (connection, toDelete) -> loadPlayers(connection, "plot_denied", plots, areaIds, Plot::getDenied, toDelete)
+        ));
+        tables.add(new PlotDataTable("plot_flags", "plot_id",
+                (connection, toDelete) -> loadFlags(connection, plots, areaIds, toDelete)
+        ));
+        tables.add(new PlotDataTable("plot_settings", "plot_plot_id",
+                (connection, toDelete) -> loadSettings(connection, plots, areaIds, withSettings, toDelete)
+        ));
+
+        // Without additional connections the tables are read one after another on the main connection
+        final boolean concurrent = this.database.canCreateConnections();
+        final ExecutorService executor = concurrent ? Executors.newFixedThreadPool(tables.size()) : null;
+        final Map<PlotDataTable, Future<List<Integer>>> results = new LinkedHashMap<>();
+        for (final PlotDataTable table : tables) {
+            final Callable<List<Integer>> task = () -> readPlotDataTable(table, concurrent);
+            if (executor != null) {
+                results.put(table, executor.submit(task));
+            } else {
+                final FutureTask<List<Integer>> future = new FutureTask<>(task);
+                future.run();
+                results.put(table, future);
+            }
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+        SQLException failure = null;
+        for (final Entry<PlotDataTable, Future<List<Integer>>> result : results.entrySet()) {
+            final PlotDataTable table = result.getKey();
+            try {
+                deleteRows(new ArrayList<>(result.getValue().get()), this.prefix + table.name(), table.column());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new SQLException("Interrupted while loading `" + this.prefix + table.name() + "`", e);
+            } catch (ExecutionException e) {
+                failure = new SQLException("Failed to load `" + this.prefix + table.name() + "`", e.getCause());
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return withSettings;
+    }
+
+    private List<Integer> readPlotDataTable(final PlotDataTable table, final boolean ownConnection) throws SQLException {
+        final long start = System.currentTimeMillis();
+        final List<Integer> toDelete = new ArrayList<>();
+        Connection connection = null;
+        if (ownConnection) {
+            try {
+                connection = this.database.createConnection();
+            } catch (SQLException | ClassNotFoundException e) {
+                LOGGER.warn("Could not open another connection to read `{}{}`, using the main connection",
+                        this.prefix, table.name(), e
+                );
+            }
+        }
+        if (connection == null) {
+            synchronized (this.connection) {
+                table.reader().read(this.connection, toDelete);
+            }
+        } else {
+            try (Connection tableConnection = connection) {
+                table.reader().read(tableConnection, toDelete);
+            }
+        }
+        if (Settings.DEBUG) {
+            LOGGER.info("Loaded `{}{}` in {}ms", this.prefix, table.name(), System.currentTimeMillis() - start);
+        }
+        return toDelete;
+    }
+
+    /**
+     * Prepare a query that is limited to the plots of the given areas.
+     *
+     * @param connection connection to prepare the statement on
+     * @param query      the unfiltered query
+     * @param column     the column referencing the plot id, or {@code null} if the query is on the plot table
+     * @param areaIds    the areas to limit the query to, or {@code null} to not limit it
+     * @return the prepared statement
+     * @throws SQLException if the statement could not be prepared
+     */
+    private PreparedStatement prepareAreaQuery(
+            final Connection connection, final String query, final @Nullable String column,
+            final @Nullable Collection<String> areaIds
+    ) throws SQLException {
+        if (areaIds == null) {
+            return connection.prepareStatement(query);
+        }
+        final String areas = "`world` IN (" + String.join(", ", Collections.nCopies(areaIds.size(), "?")) + ")";
+        final PreparedStatement statement;
+        if (column == null) {
+            statement = connection.prepareStatement(query + " WHERE " + areas);
+        } else {
+            statement = connection.prepareStatement(query + " WHERE `" + column + "` IN (SELECT `id` FROM `"
+                    + this.prefix + "plot` WHERE " + areas + ")");
+        }
+        int index = 1;
+        for (final String areaId : areaIds) {
+            statement.setString(index++, areaId);
+        }
+        return statement;
+    }
+
+    private void loadRatings(
+            final Connection connection, final Map<Integer, Plot> plots,
+            final @Nullable Collection<String> areaIds, final List<Integer> toDelete
+    ) throws SQLException {
+        final Map<String, UUID> uuids = new HashMap<>();
+        try (PreparedStatement statement = prepareAreaQuery(connection,
+                "SELECT `plot_plot_id`, `player`, `rating` FROM `" + this.prefix + "plot_rating`",
+                "plot_plot_id", areaIds
+        ); ResultSet r = statement.executeQuery()) {
+            while (r.next()) {
+                int id = r.getInt("plot_plot_id");
+                UUID user = uuids.computeIfAbsent(r.getString("player"), UUID::fromString);
+                Plot plot = plots.get(id);
+                if (plot != null) {
+                    plot.getSettings().getRatings().put(user, r.getInt("rating"));
+                } else if (Settings.Enabled_Components.DATABASE_PURGER) {
+                    toDelete.add(id);
+                } else {
+                    LOGGER.warn("Entry #{}({}) in `plot_rating` does not exist."
+                            + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
+                }
+            }
+        }
+    }
+
+    private void loadPlayers(
+            final Connection connection, final String table, final Map<Integer, Plot> plots,
+            final @Nullable Collection<String> areaIds, final Function<Plot, Set<UUID>> players,
+            final List<Integer> toDelete
+    ) throws SQLException {
+        final Map<String, UUID> uuids = new HashMap<>();
+        try (PreparedStatement statement = prepareAreaQuery(connection,
+                "SELECT `user_uuid`, `plot_plot_id` FROM `" + this.prefix + table + "`",
+                "plot_plot_id", areaIds
+        ); ResultSet r = statement.executeQuery()) {
+            while (r.next()) {
+                int id = r.getInt("plot_plot_id");
+                UUID user = uuids.computeIfAbsent(r.getString("user_uuid"), UUID::fromString);
+                Plot plot = plots.get(id);
+                if (plot != null) {
+                    players.apply(plot).add(user);
+                } else if (Settings.Enabled_Components.DATABASE_PURGER) {
+                    toDelete.add(id);
+                } else {
+                    LOGGER.warn("Entry #{}({}) in `{}` does not exist."
+                            + " Create this plot or set `database-purger: true` in settings.yml", id, plot, table);
+                }
+            }
+        }
+    }
+
+    private void loadFlags(
+            final Connection connection, final Map<Integer, Plot> plots,
+            final @Nullable Collection<String> areaIds, final List<Integer> toDelete
+    ) throws SQLException {
+        try (PreparedStatement statement = prepareAreaQuery(connection,
+                "SELECT * FROM `" + this.prefix + "plot_flags`", "plot_id", areaIds
+        ); ResultSet resultSet = statement.executeQuery()) {
+            BlockTypeListFlag.skipCategoryVerification =
+                    true; // allow invalid tags, as initialized lazily
+            final Map<Plot, Collection<PlotFlag<?, ?>>> invalidFlags = new HashMap<>();
+            // Plots commonly share flag values, so each distinct value is only parsed once and shared
+            final Map<Class<?>, Map<String, PlotFlag<?, ?>>> parsedFlags = new HashMap<>();
+            final Set<Plot> flagged = new HashSet<>();
+            while (resultSet.next()) {
+                int id = resultSet.getInt("plot_id");
+                final String flag = resultSet.getString("flag");
+                String value = resultSet.getString("value");
+                final Plot plot = plots.get(id);
+                if (plot != null) {
+                    final PlotFlag<?, ?> plotFlag =
+                            GlobalFlagContainer.getInstance().getFlagFromString(flag);
+                    if (plotFlag == null) {
+                        plot.getFlagContainer().addUnknownFlag(flag, value);
+                    } else {
+                        value = CaptionUtility.stripClickEvents(plotFlag, value);
+                        try {
+                            final Map<String, PlotFlag<?, ?>> values =
+                                    parsedFlags.computeIfAbsent(plotFlag.getClass(), k -> new HashMap<>());
+                            PlotFlag<?, ?> parsed = values.get(value);
+                            if (parsed == null) {
+                                parsed = plotFlag.parse(value);
+                                values.put(value, parsed);
+                            }
+                            plot.getFlagContainer().addFlag(parsed);
+                            flagged.add(plot);
+                        } catch (final FlagParseException e) {
+                            e.printStackTrace();
+                            LOGGER.error("Plot with ID {} has an invalid value:", id);
+                            LOGGER.error("Failed to parse flag '{}', value '{}': {}",
+                                    plotFlag.getName(), e.getValue(), e.getErrorMessage()
+                            );
+                            if (!invalidFlags.containsKey(plot)) {
+                                invalidFlags.put(plot, new ArrayList<>());
+                            }
+                            invalidFlags.get(plot).add(plotFlag);
+                        }
+                    }
+                } else if (Settings.Enabled_Components.DATABASE_PURGER) {
+                    toDelete.add(id);
+                } else {
+                    LOGGER.warn("Entry #{}({}) in `plot_flags` does not exist."
+                            + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
+                }
+            }
+            BlockTypeListFlag.skipCategoryVerification =
+                    false; // don't allow invalid tags anymore
+            final Map<Map<Class<?>, PlotFlag<?, ?>>, Map<Class<?>, PlotFlag<?, ?>>> flagMaps = new HashMap<>();
+            for (final Plot plot : flagged) {
+                plot.getFlagContainer().internFlagMap(flagMaps);
+            }
+            if (Settings.Enabled_Components.DATABASE_PURGER) {
+                for (final Map.Entry<Plot, Collection<PlotFlag<?, ?>>> plotFlagEntry : invalidFlags
+                        .entrySet()) {
+                    for (final PlotFlag<?, ?> flag : plotFlagEntry.getValue()) {
+                        LOGGER.info(
+                                "Plot {} has an invalid flag ({}). A fix has been attempted",
+                                plotFlagEntry.getKey(), flag.getName()
+                        );
+                        removeFlag(plotFlagEntry.getKey(), flag);
+                    }
+                }
+            }
+        }
+    }
+
+    private void loadSettings(
+            final Connection connection, final Map<Integer, Plot> plots,
+            final @Nullable Collection<String> areaIds, final Set<Integer> withSettings,
+            final List<Integer> toDelete
+    ) throws SQLException {
+        try (PreparedStatement statement = prepareAreaQuery(connection,
+                "SELECT * FROM `" + this.prefix + "plot_settings`", "plot_plot_id", areaIds
+        ); ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                int id = resultSet.getInt("plot_plot_id");
+                Plot plot = plots.get(id);
+                if (plot != null) {
+                    withSettings.add(id);
+                    String alias = resultSet.getString("alias");
+                    if (alias != null) {
+                        plot.getSettings().setAlias(alias);
+                    }
+                    String pos = resultSet.getString("position");
+                    switch (pos.toLowerCase()) {
+                        case "":
+                        case "default":
+                        case "0,0,0":
+                        case "center":
+                        case "centre":
+                            break;
+                        default:
+                            try {
+                                plot.getSettings().setPosition(BlockLoc.fromString(pos));
+                            } catch (Exception ignored) {
+                            }
+                    }
+                    int m = resultSet.getInt("merged");
+                    boolean[] merged = new boolean[4];
+                    for (int i = 0; i < 4; i++) {
+                        merged[3 - i] = (m & 1 << i) != 0;
+                    }
+                    plot.getSettings().setMerged(merged);
+                } else if (Settings.Enabled_Components.DATABASE_PURGER) {
+                    toDelete.add(id);
+                } else {
+                    LOGGER.warn("Entry #{}({}) in `plot_settings` does not exist."
+                            + " Create this plot or set `database-purger: true` in settings.yml", id, plot);
+                }
+            }
+        }
+    }
+
     @Override
     public void setMerged(final Plot plot, final boolean[] merged) {
         plot.getSettings().setMerged(merged);
-        addPlotTask(plot, new UniqueStatement("setMerged") {
+        addPlotTask(plot, new UniqueStatement("setMerged", "merged") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 int hash = HashUtil.hash(merged);
@@ -2177,7 +2580,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `merged` = ? WHERE `plot_plot_id` = ?");
             }
@@ -2227,7 +2630,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot` SET `plot_id_x` = ?, `plot_id_z` = ?, `world` = ? WHERE `id` = ?");
             }
@@ -2237,35 +2640,36 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("setFlag") {
+        addPlotTask(plot, new UniqueStatement("setFlag", "flag_" + flag.getName()) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
                 statement.setString(2, flag.getName());
                 statement.setString(3, flag.toString());
-                statement.setString(4, flag.toString());
             }
 
             @Override
             public PreparedStatement get() throws SQLException {
+                // The update refers to the inserted row rather than a parameter, so that
+                // batches of this statement can be rewritten into multi-row inserts
                 final String statement;
                 if (SQLManager.this.mySQL) {
                     statement = "INSERT INTO `" + SQLManager.this.prefix
                             + "plot_flags`(`plot_id`, `flag`, `value`) VALUES(?, ?, ?) "
-                            + "ON DUPLICATE KEY UPDATE `value` = ?";
+                            + "ON DUPLICATE KEY UPDATE `value` = VALUES(`value`)";
                 } else {
                     statement = "INSERT INTO `" + SQLManager.this.prefix
                             + "plot_flags`(`plot_id`, `flag`, `value`) VALUES(?, ?, ?) "
-                            + "ON CONFLICT(`plot_id`,`flag`) DO UPDATE SET `value` = ?";
+                            + "ON CONFLICT(`plot_id`,`flag`) DO UPDATE SET `value` = excluded.`value`";
                 }
-                return SQLManager.this.connection.prepareStatement(statement);
+                return SQLManager.this.currentConnection().prepareStatement(statement);
             }
         });
     }
 
     @Override
     public void removeFlag(final Plot plot, final PlotFlag<?, ?> flag) {
-        addPlotTask(plot, new UniqueStatement("removeFlag") {
+        addPlotTask(plot, new UniqueStatement("removeFlag", "flag_" + flag.getName()) {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setInt(1, getId(plot));
@@ -2274,7 +2678,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_flags` WHERE `plot_id` = ? AND `flag` = ?");
             }
@@ -2283,7 +2687,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setAlias(final Plot plot, final String alias) {
-        addPlotTask(plot, new UniqueStatement("setAlias") {
+        addPlotTask(plot, new UniqueStatement("setAlias", "alias") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 statement.setString(1, alias);
@@ -2292,7 +2696,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `alias` = ?  WHERE `plot_plot_id` = ?");
             }
@@ -2329,27 +2733,27 @@ public class SQLManager implements AbstractDB {
                             idstr.append(stmt_prefix).append(id);
                             stmt_prefix = " OR `plot_plot_id` = ";
                         }
-                        PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                        PreparedStatement stmt = SQLManager.this.currentConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_helpers` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.currentConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_denied` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.currentConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_settings` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.currentConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix
                                         + "plot_trusted` WHERE `plot_plot_id` = " + idstr);
                         stmt.executeUpdate();
                         stmt.close();
-                        stmt = SQLManager.this.connection.prepareStatement(
+                        stmt = SQLManager.this.currentConnection().prepareStatement(
                                 "DELETE FROM `" + SQLManager.this.prefix + "plot` WHERE `id` = "
                                         + idstr2);
                         stmt.executeUpdate();
@@ -2368,7 +2772,7 @@ public class SQLManager implements AbstractDB {
     @Override
     public void purge(final PlotArea area, final Set<PlotId> plots) {
         addGlobalTask(() -> {
-            try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+            try (PreparedStatement stmt = SQLManager.this.currentConnection().prepareStatement(
                     "SELECT `id`, `plot_id_x`, `plot_id_z` FROM `" + SQLManager.this.prefix
                             + "plot` WHERE `world` = ?")) {
                 stmt.setString(1, area.toString());
@@ -2398,7 +2802,7 @@ public class SQLManager implements AbstractDB {
 
     @Override
     public void setPosition(final Plot plot, final String position) {
-        addPlotTask(plot, new UniqueStatement("setPosition") {
+        addPlotTask(plot, new UniqueStatement("setPosition", "position") {
             @Override
             public void set(PreparedStatement statement) throws SQLException {
                 // Please see the table creation statement. There is the default value of "default"
@@ -2408,7 +2812,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot_settings` SET `position` = ?  WHERE `plot_plot_id` = ?");
             }
@@ -2436,11 +2840,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.currentConnection().prepareStatement(
                             "DELETE FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `comment` = ? AND `inbox` = ? AND `sender` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `comment` = ? AND `inbox` = ? AND `sender` = ?");
             }
@@ -2464,11 +2868,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.currentConnection().prepareStatement(
                             "DELETE FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "plot_comments` `inbox` = ?");
             }
         });
@@ -2494,11 +2898,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (plot != null) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.currentConnection().prepareStatement(
                             "SELECT * FROM `" + SQLManager.this.prefix
                                     + "plot_comments` WHERE `world` = ? AND `hashcode` = ? AND `inbox` = ?");
                 }
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "SELECT * FROM `" + SQLManager.this.prefix
                                 + "plot_comments` WHERE `inbox` = ?");
             }
@@ -2549,7 +2953,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_comments` (`world`, `hashcode`, `comment`, `inbox`, `timestamp`, `sender`) VALUES(?,?,?,?,?,?)");
             }
@@ -2567,7 +2971,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_helpers` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2585,7 +2989,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_trusted` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2603,7 +3007,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_helpers` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2621,7 +3025,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_trusted` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2639,7 +3043,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "plot_denied` WHERE `plot_plot_id` = ? AND `user_uuid` = ?");
             }
@@ -2657,7 +3061,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_denied` (`plot_plot_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -2697,7 +3101,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "plot_rating` (`plot_plot_id`, `rating`, `player`) VALUES(?,?,?)");
             }
@@ -2715,7 +3119,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_settings` WHERE `cluster_id` = ?");
             }
@@ -2728,7 +3132,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_helpers` WHERE `cluster_id` = ?");
             }
@@ -2741,7 +3145,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_invited` WHERE `cluster_id` = ?");
             }
@@ -2754,7 +3158,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix + "cluster` WHERE `id` = ?");
             }
         });
@@ -2782,11 +3186,11 @@ public class SQLManager implements AbstractDB {
             @Override
             public PreparedStatement get() throws SQLException {
                 if (replace) {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.currentConnection().prepareStatement(
                             "UPDATE `" + SQLManager.this.prefix
                                     + "player_meta` SET `value` = ? WHERE `uuid` = ? AND `key` = ?");
                 } else {
-                    return SQLManager.this.connection.prepareStatement(
+                    return SQLManager.this.currentConnection().prepareStatement(
                             "INSERT INTO `" + SQLManager.this.prefix
                                     + "player_meta`(`uuid`, `key`, `value`) VALUES(?, ? ,?)");
                 }
@@ -2805,7 +3209,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "player_meta` WHERE `uuid` = ? AND `key` = ?");
             }
@@ -2822,7 +3226,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "SELECT * FROM `" + SQLManager.this.prefix
                                 + "player_meta` WHERE `uuid` = ? ORDER BY `meta_id` ASC");
             }
@@ -3010,7 +3414,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster_settings` SET `alias` = ?  WHERE `cluster_id` = ?");
             }
@@ -3029,7 +3433,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_helpers` WHERE `cluster_id` = ? AND `user_uuid` = ?");
             }
@@ -3047,7 +3451,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "cluster_helpers` (`cluster_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -3069,7 +3473,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         SQLManager.this.CREATE_CLUSTER,
                         Statement.RETURN_GENERATED_KEYS
                 );
@@ -3100,7 +3504,7 @@ public class SQLManager implements AbstractDB {
 
                     @Override
                     public PreparedStatement get() throws SQLException {
-                        return SQLManager.this.connection.prepareStatement(
+                        return SQLManager.this.currentConnection().prepareStatement(
                                 "INSERT INTO `" + SQLManager.this.prefix
                                         + "cluster_settings`(`cluster_id`, `alias`) VALUES(?, ?)");
                     }
@@ -3127,7 +3531,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster` SET `pos1_x` = ?, `pos1_z` = ?, `pos2_x` = ?, `pos2_z` = ?  WHERE `id` = ?");
             }
@@ -3145,7 +3549,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster_settings` SET `position` = ?  WHERE `cluster_id` = ?");
             }
@@ -3163,7 +3567,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "DELETE FROM `" + SQLManager.this.prefix
                                 + "cluster_invited` WHERE `cluster_id` = ? AND `user_uuid` = ?");
             }
@@ -3181,7 +3585,7 @@ public class SQLManager implements AbstractDB {
 
             @Override
             public PreparedStatement get() throws SQLException {
-                return SQLManager.this.connection.prepareStatement(
+                return SQLManager.this.currentConnection().prepareStatement(
                         "INSERT INTO `" + SQLManager.this.prefix
                                 + "cluster_invited` (`cluster_id`, `user_uuid`) VALUES(?,?)");
             }
@@ -3350,7 +3754,7 @@ public class SQLManager implements AbstractDB {
     ) {
         addGlobalTask(() -> {
             if (min == null) {
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot` SET `world` = ? WHERE `world` = ?")) {
                     stmt.setString(1, newWorld);
@@ -3359,7 +3763,7 @@ public class SQLManager implements AbstractDB {
                 } catch (SQLException e) {
                     e.printStackTrace();
                 }
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster` SET `world` = ? WHERE `world` = ?")) {
                     stmt.setString(1, newWorld);
@@ -3369,7 +3773,7 @@ public class SQLManager implements AbstractDB {
                     e.printStackTrace();
                 }
             } else {
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "plot` SET `world` = ? WHERE `world` = ? AND `plot_id_x` BETWEEN ? AND ? AND `plot_id_z` BETWEEN ? AND ?")) {
                     stmt.setString(1, newWorld);
@@ -3382,7 +3786,7 @@ public class SQLManager implements AbstractDB {
                 } catch (SQLException e) {
                     e.printStackTrace();
                 }
-                try (PreparedStatement stmt = SQLManager.this.connection.prepareStatement(
+                try (PreparedStatement stmt = SQLManager.this.currentConnection().prepareStatement(
                         "UPDATE `" + SQLManager.this.prefix
                                 + "cluster` SET `world` = ? WHERE `world` = ? AND `pos1_x` <= ? AND `pos1_z` <= ? AND `pos2_x` >= ? AND `pos2_z` >= ?")) {
                     stmt.setString(1, newWorld);
@@ -3431,12 +3835,146 @@ public class SQLManager implements AbstractDB {
     public void close() {
         try {
             this.closed = true;
+            synchronized (this.taskSignal) {
+                this.taskSignal.notifyAll();
+            }
+            if (this.plotWriters != null) {
+                for (final PlotWriter writer : this.plotWriters) {
+                    writer.signal();
+                }
+            }
             this.connection.close();
         } catch (SQLException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Writes the tasks of a share of the plots on a connection of its own. Global tasks that were queued before
+     * are written first, so plot statements never run ahead of table changes.
+     */
+    private final class PlotWriter implements Runnable {
+
+        private final Map<Plot, Queue<UniqueStatement>> tasks = new ConcurrentHashMap<>();
+        private final List<Runnable> notifyTasks = new ArrayList<>();
+        /**
+         * Held while writing, notified after each write
+         */
+        private final Object lock = new Object();
+        private final Object signal = new Object();
+        private boolean signalled = false;
+        private Connection connection;
+
+        private PlotWriter(final Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public void run() {
+            SQLManager.this.currentWriter.set(this);
+            while (!SQLManager.this.closed) {
+                if (this.tasks.isEmpty()) {
+                    await(1000);
+                    continue;
+                }
+                final int count;
+                synchronized (this.lock) {
+                    try {
+                        count = write();
+                    } finally {
+                        this.lock.notifyAll();
+                    }
+                }
+                if (count <= 0) {
+                    // Nothing was written, the remaining tasks wait for a global task or the connection failed
+                    await(count < 0 ? 1000 : 50);
+                }
+            }
+            closeConnection();
+        }
+
+        /**
+         * Write the tasks that are not held back by a global task and commit them.
+         *
+         * @return the number of tasks that were written, or {@code -1} if the connection failed
+         */
+        private int write() {
+            final int count;
+            try {
+                if (!isValid(this.connection)) {
+                    closeConnection();
+                    this.connection = SQLManager.this.database.createConnection();
+                }
+                count = sendPlotTasks(this.tasks, this.connection, SQLManager.this.globalTasksWritten);
+                if (count > 0) {
+                    commit();
+                } else if (!this.connection.getAutoCommit()) {
+                    this.connection.setAutoCommit(true);
+                }
+            } catch (SQLException | ClassNotFoundException e) {
+                LOGGER.error("============ DATABASE ERROR ============");
+                LOGGER.error("There was an error updating the database.");
+                LOGGER.error(" - It will be corrected on shutdown");
+                LOGGER.error("========================================");
+                e.printStackTrace();
+                LOGGER.error("========================================");
+                return -1;
+            }
+            synchronized (SQLManager.this) {
+                if (!this.notifyTasks.isEmpty()) {
+                    getNotifyTasks().addAll(this.notifyTasks);
+                    this.notifyTasks.clear();
+                    signalMainWriter();
+                }
+            }
+            return count;
+        }
+
+        /**
+         * Check whether any plot has a task that is not held back by a global task.
+         *
+         * @return {@code true} if there is a task to write
+         */
+        private boolean hasWritableTasks() {
+            for (final Queue<UniqueStatement> queue : this.tasks.values()) {
+                final UniqueStatement next = queue.peek();
+                if (next != null && next.globalTasksBefore <= SQLManager.this.globalTasksWritten) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void await(final long timeout) {
+            synchronized (this.signal) {
+                if (!this.signalled && !SQLManager.this.closed) {
+                    try {
+                        this.signal.wait(timeout);
+                    } catch (InterruptedException e) {
+                        e.printStackTrace();
+                    }
+                }
+                this.signalled = false;
+            }
+        }
+
+        private void signal() {
+            synchronized (this.signal) {
+                this.signalled = true;
+                this.signal.notifyAll();
+            }
+        }
+
+        private void closeConnection() {
+            try {
+                this.connection.close();
+            } catch (SQLException e) {
+                e.printStackTrace();
+            }
+        }
+
+    }
+
     private record LegacySettings(
             int id,
             PlotSettings settings
@@ -3447,9 +3985,23 @@ public class SQLManager implements AbstractDB {
     public abstract static class UniqueStatement {
 
         public final String method;
+        /**
+         * Identifies the value this statement writes. A queued statement is dropped when a
+         * statement with the same key is queued for the same plot, as it would be overwritten.
+         */
+        public final @Nullable String key;
+        /**
+         * Number of global tasks queued before this statement, which have to be written first
+         */
+        private long globalTasksBefore;
 
         public UniqueStatement(String method) {
+            this(method, null);
+        }
+
+        public UniqueStatement(String method, @Nullable String key) {
             this.method = method;
+            this.key = key;
         }
 
         public void addBatch(PreparedStatement statement) throws SQLException {
@@ -3470,4 +4022,15 @@ public class SQLManager implements AbstractDB {
 
     }
 
+    private record PlotDataTable(String name, String column, PlotDataReader reader) {
+
+    }
+
+    @FunctionalInterface
+    private interface PlotDataReader {
+
+        void read(Connection connection, List<Integer> toDelete) throws SQLException;
+
+    }
+
 }
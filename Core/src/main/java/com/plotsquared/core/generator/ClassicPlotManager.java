@@ -29,6 +29,7 @@ import com.plotsquared.core.plot.BlockBucket;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotAreaTerrainType;
 import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.queue.ChunkCoordinator;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.RegionManager;
@@ -276,8 +277,11 @@ public class ClassicPlotManager extends SquarePlotManager {
         if (queue == null) {
             queue = classicPlotWorld.getQueue();
             enqueue = true;
-            if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            if (actor != null) {
+                queue.setPriority(ChunkCoordinator.Priority.HIGH);
+                if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                    queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+                }
             }
         }
 
@@ -374,8 +378,11 @@ public class ClassicPlotManager extends SquarePlotManager {
         if (queue == null) {
             queue = classicPlotWorld.getQueue();
             enqueue = true;
-            if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            if (actor != null) {
+                queue.setPriority(ChunkCoordinator.Priority.HIGH);
+                if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                    queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+                }
             }
         }
 
@@ -454,8 +461,11 @@ public class ClassicPlotManager extends SquarePlotManager {
         if (queue == null) {
             enqueue = true;
             queue = classicPlotWorld.getQueue();
-            if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            if (actor != null) {
+                queue.setPriority(ChunkCoordinator.Priority.HIGH);
+                if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                    queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+                }
             }
         }
 
@@ -0,0 +1,146 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The layout of a chunk in a {@link HybridPlotWorld}. A plot world repeats every {@link HybridPlotWorld#SIZE} blocks,
+ * so all chunks at the same offset relative to the plot grid share a layout, which is computed once and reused.
+ */
+final class HybridChunkTemplate {
+
+    static final byte ROAD = 0;
+    static final byte WALL = 1;
+    static final byte PLOT = 2;
+
+    private final byte[] columns = new byte[256];
+    private final HybridSchematicColumns schematicColumns;
+    private final char[][] schematic = new char[256][];
+    private final BiomeType[] biomes = new BiomeType[256];
+    private final boolean overlap;
+    private final boolean allRoad;
+
+    /**
+     * @param world           the world to compute the layout for
+     * @param relativeOffsetX the x coordinate of the chunk, relative to the plot grid
+     * @param relativeOffsetZ the z coordinate of the chunk, relative to the plot grid
+     */
+    HybridChunkTemplate(final @NonNull HybridPlotWorld world, final short relativeOffsetX, final short relativeOffsetZ) {
+        final short[] relativeX = new short[16];
+        final boolean[] insideRoadX = new boolean[16];
+        final boolean[] insideWallX = new boolean[16];
+        final short[] relativeZ = new short[16];
+        final boolean[] insideRoadZ = new boolean[16];
+        final boolean[] insideWallZ = new boolean[16];
+        this.schematicColumns = world.getSchematicColumns();
+        boolean overlap = false;
+        boolean allRoad = true;
+        short offsetX = relativeOffsetX;
+        short offsetZ = relativeOffsetZ;
+        for (short i = 0; i < 16; i++) {
+            if (offsetX >= world.SIZE) {
+                offsetX -= world.SIZE;
+                overlap = true;
+            }
+            if (offsetZ >= world.SIZE) {
+                offsetZ -= world.SIZE;
+                overlap = true;
+            }
+            relativeX[i] = offsetX;
+            relativeZ[i] = offsetZ;
+            if (world.ROAD_WIDTH != 0) {
+                insideRoadX[i] = offsetX < world.PATH_WIDTH_LOWER || offsetX > world.PATH_WIDTH_UPPER;
+                insideWallX[i] = offsetX == world.PATH_WIDTH_LOWER || offsetX == world.PATH_WIDTH_UPPER;
+                insideRoadZ[i] = offsetZ < world.PATH_WIDTH_LOWER || offsetZ > world.PATH_WIDTH_UPPER;
+                insideWallZ[i] = offsetZ == world.PATH_WIDTH_LOWER || offsetZ == world.PATH_WIDTH_UPPER;
+            }
+            offsetX++;
+            offsetZ++;
+        }
+        this.overlap = overlap;
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                final byte column;
+                if (insideRoadX[x] || insideRoadZ[z]) {
+                    column = ROAD;
+                } else if (insideWallX[x] || insideWallZ[z]) {
+                    column = WALL;
+                } else {
+                    column = PLOT;
+                }
+                final int index = x << 4 | z;
+                this.columns[index] = column;
+                allRoad &= column != PLOT;
+                if (column == PLOT ? world.PLOT_SCHEMATIC : world.ROAD_SCHEMATIC_ENABLED) {
+                    this.schematic[index] = this.schematicColumns.getColumn(relativeX[x], relativeZ[z]);
+                    this.biomes[index] = this.schematicColumns.getBiome(relativeX[x], relativeZ[z]);
+                }
+            }
+        }
+        this.allRoad = allRoad;
+    }
+
+    /**
+     * @return {@link #ROAD}, {@link #WALL} or {@link #PLOT}
+     */
+    byte getColumn(final int x, final int z) {
+        return this.columns[x << 4 | z];
+    }
+
+    /**
+     * @return the palette indices of the schematic column, if a schematic is pasted in it
+     * @see #getBlock(char)
+     */
+    char @Nullable [] getSchematic(final int x, final int z) {
+        return this.schematic[x << 4 | z];
+    }
+
+    /**
+     * @return the schematic block for a palette index
+     */
+    @Nullable BaseBlock getBlock(final char id) {
+        return this.schematicColumns.getBlock(id);
+    }
+
+    /**
+     * @return the schematic biome of the column, if a schematic with biomes is pasted in it
+     */
+    @Nullable BiomeType getBiome(final int x, final int z) {
+        return this.biomes[x << 4 | z];
+    }
+
+    /**
+     * @return if the chunk spans the edge of the plot grid
+     */
+    boolean isOverlap() {
+        return this.overlap;
+    }
+
+    /**
+     * @return if the chunk contains no plot columns
+     */
+    boolean isAllRoad() {
+        return this.allRoad;
+    }
+
+}
@@ -27,10 +27,10 @@ import com.plotsquared.core.location.Location;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.ZeroedDelegateScopedQueueCoordinator;
-import com.plotsquared.core.util.MathMan;
 import com.sk89q.worldedit.entity.BaseEntity;
 import com.sk89q.worldedit.entity.Entity;
 import com.sk89q.worldedit.extent.Extent;
+import com.sk89q.worldedit.function.pattern.Pattern;
 import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldedit.math.Vector3;
 import com.sk89q.worldedit.regions.CuboidRegion;
@@ -62,8 +62,7 @@ public class HybridGen extends IndependentPlotGenerator {
     private void placeSchem(
             HybridPlotWorld world,
             ZeroedDelegateScopedQueueCoordinator result,
-            short relativeX,
-            short relativeZ,
+            HybridChunkTemplate template,
             int x,
             int z,
             EnumSet<SchematicFeature> features
@@ -75,12 +74,14 @@ public class HybridGen extends IndependentPlotGenerator {
         } else {
             minY = world.getMinBuildHeight();
         }
-        BaseBlock[] blocks = world.G_SCH.get(MathMan.pair(relativeX, relativeZ));
+        char[] blocks = template.getSchematic(x, z);
         if (blocks != null) {
+            boolean populating = features.contains(SchematicFeature.POPULATING);
             for (int y = 0; y < blocks.length; y++) {
-                if (blocks[y] != null) {
-                    if (!features.contains(SchematicFeature.POPULATING) || blocks[y].hasNbtData()) {
-                        result.setBlock(x, minY + y, z, blocks[y]);
+                if (blocks[y] != HybridSchematicColumns.EMPTY) {
+                    BaseBlock block = template.getBlock(blocks[y]);
+                    if (!populating || block.hasNbtData()) {
+                        result.setBlock(x, minY + y, z, block);
                     }
                 }
             }
@@ -88,7 +89,7 @@ public class HybridGen extends IndependentPlotGenerator {
         if (!features.contains(SchematicFeature.BIOMES)) {
             return;
         }
-        BiomeType biome = world.G_SCH_B.get(MathMan.pair(relativeX, relativeZ));
+        BiomeType biome = template.getBiome(x, z);
         if (biome != null) {
             result.setBiome(x, z, biome);
         }
@@ -131,109 +132,45 @@ public class HybridGen extends IndependentPlotGenerator {
         // contained in the scoped queue
         short relativeOffsetZ = (short) Math.floorMod(bz, hybridPlotWorld.SIZE);
 
-        // The X-coordinate of a given X coordinate, relative to the
-        // plot (Counting from the corner with the least positive
-        // coordinates)
-        short[] relativeX = new short[16];
-        boolean[] insideRoadX = new boolean[16];
-        boolean[] insideWallX = new boolean[16];
-        short offsetX = relativeOffsetX;
-        for (short i = 0; i < 16; i++) {
-            if (offsetX >= hybridPlotWorld.SIZE) {
-                offsetX -= hybridPlotWorld.SIZE;
-            }
-            relativeX[i] = offsetX;
-            if (hybridPlotWorld.ROAD_WIDTH != 0) {
-                insideRoadX[i] = offsetX < hybridPlotWorld.PATH_WIDTH_LOWER || offsetX > hybridPlotWorld.PATH_WIDTH_UPPER;
-                insideWallX[i] = offsetX == hybridPlotWorld.PATH_WIDTH_LOWER || offsetX == hybridPlotWorld.PATH_WIDTH_UPPER;
-            }
-            offsetX++;
-        }
-        // The Z-coordinate of a given Z coordinate, relative to the
-        // plot (Counting from the corner with the least positive
-        // coordinates)
-        short[] relativeZ = new short[16];
-        boolean[] insideRoadZ = new boolean[16];
-        boolean[] insideWallZ = new boolean[16];
-        short offsetZ = relativeOffsetZ;
-        for (short i = 0; i < 16; i++) {
-            if (offsetZ >= hybridPlotWorld.SIZE) {
-                offsetZ -= hybridPlotWorld.SIZE;
-            }
-            relativeZ[i] = offsetZ;
-            if (hybridPlotWorld.ROAD_WIDTH != 0) {
-                insideRoadZ[i] = offsetZ < hybridPlotWorld.PATH_WIDTH_LOWER || offsetZ > hybridPlotWorld.PATH_WIDTH_UPPER;
-                insideWallZ[i] = offsetZ == hybridPlotWorld.PATH_WIDTH_LOWER || offsetZ == hybridPlotWorld.PATH_WIDTH_UPPER;
-            }
-            offsetZ++;
-        }
+        HybridChunkTemplate template = hybridPlotWorld.getChunkTemplate(relativeOffsetX, relativeOffsetZ);
+        Pattern road = hybridPlotWorld.ROAD_BLOCK.toPattern();
+        Pattern wallFilling = hybridPlotWorld.WALL_FILLING.toPattern();
+        Pattern wall = hybridPlotWorld.WALL_BLOCK.toPattern();
+        Pattern main = hybridPlotWorld.MAIN_BLOCK.toPattern();
+        Pattern top = hybridPlotWorld.TOP_BLOCK.toPattern();
+
         // generation
         int startY = hybridPlotWorld.getMinGenHeight() + (hybridPlotWorld.PLOT_BEDROCK ? 1 : 0);
         for (short x = 0; x < 16; x++) {
-            if (insideRoadX[x]) {
-                for (short z = 0; z < 16; z++) {
-                    // Road
-                    for (int y = startY; y <= hybridPlotWorld.ROAD_HEIGHT; y++) {
-                        result.setBlock(x, y, z, hybridPlotWorld.ROAD_BLOCK.toPattern());
-                    }
-                    if (hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
-                        placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, roadFeatures);
-                    }
-                }
-            } else if (insideWallX[x]) {
-                for (short z = 0; z < 16; z++) {
-                    if (insideRoadZ[z]) {
-                        // road
+            for (short z = 0; z < 16; z++) {
+                switch (template.getColumn(x, z)) {
+                    case HybridChunkTemplate.ROAD -> {
                         for (int y = startY; y <= hybridPlotWorld.ROAD_HEIGHT; y++) {
-                            result.setBlock(x, y, z, hybridPlotWorld.ROAD_BLOCK.toPattern());
+                            result.setBlock(x, y, z, road);
                         }
                         if (hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
-                            placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, roadFeatures);
-                        }
-                    } else {
-                        // wall
-                        for (int y = startY; y <= hybridPlotWorld.WALL_HEIGHT; y++) {
-                            result.setBlock(x, y, z, hybridPlotWorld.WALL_FILLING.toPattern());
-                        }
-                        if (!hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
-                            if (hybridPlotWorld.PLACE_TOP_BLOCK) {
-                                result.setBlock(x, hybridPlotWorld.WALL_HEIGHT + 1, z, hybridPlotWorld.WALL_BLOCK.toPattern());
-                            }
-                        } else {
-                            placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, roadFeatures);
+                            placeSchem(hybridPlotWorld, result, template, x, z, roadFeatures);
                         }
                     }
-                }
-            } else {
-                for (short z = 0; z < 16; z++) {
-                    if (insideRoadZ[z]) {
-                        // road
-                        for (int y = startY; y <= hybridPlotWorld.ROAD_HEIGHT; y++) {
-                            result.setBlock(x, y, z, hybridPlotWorld.ROAD_BLOCK.toPattern());
-                        }
-                        if (hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
-                            placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, roadFeatures);
-                        }
-                    } else if (insideWallZ[z]) {
-                        // wall
+                    case HybridChunkTemplate.WALL -> {
                         for (int y = startY; y <= hybridPlotWorld.WALL_HEIGHT; y++) {
-                            result.setBlock(x, y, z, hybridPlotWorld.WALL_FILLING.toPattern());
+                            result.setBlock(x, y, z, wallFilling);
                         }
                         if (!hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
                             if (hybridPlotWorld.PLACE_TOP_BLOCK) {
-                                result.setBlock(x, hybridPlotWorld.WALL_HEIGHT + 1, z, hybridPlotWorld.WALL_BLOCK.toPattern());
+                                result.setBlock(x, hybridPlotWorld.WALL_HEIGHT + 1, z, wall);
                             }
                         } else {
-                            placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, roadFeatures);
+                            placeSchem(hybridPlotWorld, result, template, x, z, roadFeatures);
                         }
-                    } else {
-                        // plot
+                    }
+                    default -> {
                         for (int y = startY; y < hybridPlotWorld.PLOT_HEIGHT; y++) {
-                            result.setBlock(x, y, z, hybridPlotWorld.MAIN_BLOCK.toPattern());
+                            result.setBlock(x, y, z, main);
                         }
-                        result.setBlock(x, hybridPlotWorld.PLOT_HEIGHT, z, hybridPlotWorld.TOP_BLOCK.toPattern());
+                        result.setBlock(x, hybridPlotWorld.PLOT_HEIGHT, z, top);
                         if (hybridPlotWorld.PLOT_SCHEMATIC) {
-                            placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, plotFeatures);
+                            placeSchem(hybridPlotWorld, result, template, x, z, plotFeatures);
                         }
                     }
                 }
@@ -262,74 +199,19 @@ public class HybridGen extends IndependentPlotGenerator {
         // contained in the scoped queue
         short relativeOffsetZ = (short) Math.floorMod(bz, hybridPlotWorld.SIZE);
 
-        boolean allRoad = true;
-        boolean overlap = false;
-
-        // The X-coordinate of a given X coordinate, relative to the
-        // plot (Counting from the corner with the least positive
-        // coordinates)
-        short[] relativeX = new short[16];
-        boolean[] insideRoadX = new boolean[16];
-        boolean[] insideWallX = new boolean[16];
-        short offsetX = relativeOffsetX;
-        for (short i = 0; i < 16; i++) {
-            if (offsetX >= hybridPlotWorld.SIZE) {
-                offsetX -= hybridPlotWorld.SIZE;
-                overlap = true;
-            }
-            relativeX[i] = offsetX;
-            if (hybridPlotWorld.ROAD_WIDTH != 0) {
-                boolean insideRoad = offsetX < hybridPlotWorld.PATH_WIDTH_LOWER || offsetX > hybridPlotWorld.PATH_WIDTH_UPPER;
-                boolean insideWall = offsetX == hybridPlotWorld.PATH_WIDTH_LOWER || offsetX == hybridPlotWorld.PATH_WIDTH_UPPER;
-                insideRoadX[i] = insideRoad;
-                insideWallX[i] = insideWall;
-                allRoad &= insideRoad && insideWall;
-            }
-            offsetX++;
-        }
-
-        // The Z-coordinate of a given Z coordinate, relative to the
-        // plot (Counting from the corner with the least positive
-        // coordinates)
-        short[] relativeZ = new short[16];
-        boolean[] insideRoadZ = new boolean[16];
-        boolean[] insideWallZ = new boolean[16];
-        short offsetZ = relativeOffsetZ;
-        for (short i = 0; i < 16; i++) {
-            if (offsetZ >= hybridPlotWorld.SIZE) {
-                offsetZ -= hybridPlotWorld.SIZE;
-                overlap = true;
-            }
-            relativeZ[i] = offsetZ;
-            if (hybridPlotWorld.ROAD_WIDTH != 0) {
-                boolean insideRoad = offsetZ < hybridPlotWorld.PATH_WIDTH_LOWER || offsetZ > hybridPlotWorld.PATH_WIDTH_UPPER;
-                boolean insideWall = offsetZ == hybridPlotWorld.PATH_WIDTH_LOWER || offsetZ == hybridPlotWorld.PATH_WIDTH_UPPER;
-                insideRoadZ[i] = insideRoad;
-                insideWallZ[i] = insideWall;
-                allRoad &= insideRoad && insideWall;
-            }
-            offsetZ++;
-        }
+        HybridChunkTemplate template = hybridPlotWorld.getChunkTemplate(relativeOffsetX, relativeOffsetZ);
         for (short x = 0; x < 16; x++) {
-            if (insideRoadX[x] || insideWallX[x]) {
-                if (hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
-                    for (short z = 0; z < 16; z++) {
-                        placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, roadFeatures);
-                    }
-                }
-            } else {
-                for (short z = 0; z < 16; z++) {
-                    if (insideRoadZ[z] || insideWallZ[z]) {
-                        if (hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
-                            placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, roadFeatures);
-                        }
-                    } else if (hybridPlotWorld.PLOT_SCHEMATIC) {
-                        placeSchem(hybridPlotWorld, result, relativeX[x], relativeZ[z], x, z, plotFeatures);
+            for (short z = 0; z < 16; z++) {
+                if (template.getColumn(x, z) != HybridChunkTemplate.PLOT) {
+                    if (hybridPlotWorld.ROAD_SCHEMATIC_ENABLED) {
+                        placeSchem(hybridPlotWorld, result, template, x, z, roadFeatures);
                     }
+                } else if (hybridPlotWorld.PLOT_SCHEMATIC) {
+                    placeSchem(hybridPlotWorld, result, template, x, z, plotFeatures);
                 }
             }
         }
-        if (!allRoad && hybridPlotWorld.getPlotSchematicEntities() != null && !hybridPlotWorld
+        if (!template.isAllRoad() && hybridPlotWorld.getPlotSchematicEntities() != null && !hybridPlotWorld
                 .getPlotSchematicEntities()
                 .isEmpty()) {
             CuboidRegion region = CHUNK.clone();
@@ -355,7 +237,7 @@ public class HybridGen extends IndependentPlotGenerator {
             } catch (RegionOperationException e) {
                 throw new RuntimeException(e);
             }
-            if (overlap) {
+            if (template.isOverlap()) {
                 try {
                     region.shift(BlockVector3.at(-hybridPlotWorld.SIZE, 0, -hybridPlotWorld.SIZE));
                     for (Entity entity : hybridPlotWorld.getPlotSchematicEntities()) {
@@ -398,7 +280,7 @@ public class HybridGen extends IndependentPlotGenerator {
         int size = hybridPlotWorld.PLOT_WIDTH + hybridPlotWorld.ROAD_WIDTH;
         relativeX = Math.floorMod(relativeX, size);
         relativeZ = Math.floorMod(relativeZ, size);
-        BiomeType biome = hybridPlotWorld.G_SCH_B.get(MathMan.pair((short) relativeX, (short) relativeZ));
+        BiomeType biome = hybridPlotWorld.getSchematicBiome(relativeX, relativeZ);
         return biome == null ? hybridPlotWorld.getPlotBiome() : biome;
     }
 
@@ -29,10 +29,10 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotAreaTerrainType;
 import com.plotsquared.core.plot.PlotAreaType;
 import com.plotsquared.core.plot.PlotId;
+import com.plotsquared.core.queue.ChunkCoordinator;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.FileBytes;
 import com.plotsquared.core.util.FileUtils;
-import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.RegionManager;
 import com.plotsquared.core.util.WorldUtil;
 import com.sk89q.worldedit.function.pattern.Pattern;
@@ -164,6 +164,8 @@ public class HybridPlotManager extends ClassicPlotManager {
         }
         int schemYDiff = (isRoad ? hybridPlotWorld.getRoadYStart() : hybridPlotWorld.getPlotYStart()) - minY;
         BaseBlock airBlock = BlockTypes.AIR.getDefaultState().toBaseBlock();
+        Pattern fillPattern = isRoad ? hybridPlotWorld.ROAD_BLOCK.toPattern() : hybridPlotWorld.MAIN_BLOCK.toPattern();
+        HybridSchematicColumns schematicColumns = hybridPlotWorld.getSchematicColumns();
         for (int x = pos1.getX(); x <= pos2.getX(); x++) {
             short absX = (short) ((x - hybridPlotWorld.ROAD_OFFSET_X) % size);
             if (absX < 0) {
@@ -174,23 +176,21 @@ public class HybridPlotManager extends ClassicPlotManager {
                 if (absZ < 0) {
                     absZ += size;
                 }
-                BaseBlock[] blocks = hybridPlotWorld.G_SCH.get(MathMan.pair(absX, absZ));
+                char[] blocks = schematicColumns.getColumn(absX, absZ);
                 if (blocks != null) {
                     for (int y = 0; y < blocks.length; y++) {
-                        if (blocks[y] != null) {
-                            queue.setBlock(x, minY + y, z, blocks[y]);
+                        if (blocks[y] != HybridSchematicColumns.EMPTY) {
+                            queue.setBlock(x, minY + y, z, schematicColumns.getBlock(blocks[y]));
                         } else if (y > schemYDiff) {
                             // This is necessary, otherwise any blocks not specified in the schematic will remain after a clear.
                             // This should only be done where the schematic has actually "started"
                             queue.setBlock(x, minY + y, z, airBlock);
-                        } else if (isRoad) {
-                            queue.setBlock(x, minY + y, z, hybridPlotWorld.ROAD_BLOCK.toPattern());
                         } else {
-                            queue.setBlock(x, minY + y, z, hybridPlotWorld.MAIN_BLOCK.toPattern());
+                            queue.setBlock(x, minY + y, z, fillPattern);
                         }
                     }
                 }
-                BiomeType biome = hybridPlotWorld.G_SCH_B.get(MathMan.pair(absX, absZ));
+                BiomeType biome = schematicColumns.getBiome(absX, absZ);
                 if (biome != null) {
                     queue.setBiome(x, z, biome);
                 } else {
@@ -286,8 +286,11 @@ public class HybridPlotManager extends ClassicPlotManager {
             enqueue = true;
             queue = hybridPlotWorld.getQueue();
         }
-        if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-            queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+        if (actor != null) {
+            queue.setPriority(ChunkCoordinator.Priority.HIGH);
+            if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            }
         }
         if (whenDone != null) {
             queue.setCompleteTask(whenDone);
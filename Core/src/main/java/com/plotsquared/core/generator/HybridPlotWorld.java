@@ -58,9 +58,17 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.io.File;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class HybridPlotWorld extends ClassicPlotWorld {
 
@@ -70,8 +78,22 @@ public class HybridPlotWorld extends ClassicPlotWorld {
     public boolean PLOT_SCHEMATIC = false;
     public short PATH_WIDTH_LOWER;
     public short PATH_WIDTH_UPPER;
-    public HashMap<Integer, BaseBlock[]> G_SCH;
-    public HashMap<Integer, BiomeType> G_SCH_B;
+    /**
+     * The schematic block columns by {@link MathMan#pair(short, short) paired} x and z coordinate.
+     *
+     * @deprecated The schematics are no longer stored in maps. This is a copy that is built on first access and
+     *         changing it has no effect on generation. Use {@link #getSchematicBlock(int, int, int)} instead.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
+    public HashMap<Integer, BaseBlock[]> G_SCH = new LazyHashMap<>(this::buildLegacySchematicBlocks);
+    /**
+     * The schematic biomes by {@link MathMan#pair(short, short) paired} x and z coordinate.
+     *
+     * @deprecated The schematics are no longer stored in maps. This is a copy that is built on first access and
+     *         changing it has no effect on generation. Use {@link #getSchematicBiome(int, int)} instead.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
+    public HashMap<Integer, BiomeType> G_SCH_B = new LazyHashMap<>(this::buildLegacySchematicBiomes);
     /**
      * The Y level at which schematic generation will start, lowest of either road or plot schematic generation.
      */
@@ -87,6 +109,8 @@ public class HybridPlotWorld extends ClassicPlotWorld {
     private boolean schem1PopulationNeeded = false;
     private boolean schem2PopulationNeeded = false;
     private boolean schem3PopulationNeeded = false;
+    private HybridSchematicColumns schematicColumns = new HybridSchematicColumns(0, 0);
+    private final Map<Integer, HybridChunkTemplate> chunkTemplates = new ConcurrentHashMap<>();
 
     @Inject
     private SchematicHandler schematicHandler;
@@ -177,6 +201,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         } catch (Exception event) {
             event.printStackTrace();
         }
+        this.chunkTemplates.clear();
 
         // Dump world settings
         if (Settings.DEBUG) {
@@ -184,9 +209,6 @@ public class HybridPlotWorld extends ClassicPlotWorld {
             final Field[] fields = this.getClass().getFields();
             for (final Field field : fields) {
                 final String name = field.getName().toLowerCase(Locale.ENGLISH);
-                if (name.contains("g_sch")) {
-                    continue;
-                }
                 Object value;
                 try {
                     final boolean accessible = field.canAccess(this);
@@ -210,8 +232,10 @@ public class HybridPlotWorld extends ClassicPlotWorld {
     }
 
     public void setupSchematics() throws SchematicHandler.UnsupportedFormatException {
-        this.G_SCH = new HashMap<>();
-        this.G_SCH_B = new HashMap<>();
+        this.chunkTemplates.clear();
+        this.schematicColumns = new HybridSchematicColumns(0, 0);
+        this.G_SCH = new LazyHashMap<>(this::buildLegacySchematicBlocks);
+        this.G_SCH_B = new LazyHashMap<>(this::buildLegacySchematicBiomes);
 
         // Try to determine root. This means that plot areas can have separate schematic
         // directories
@@ -256,7 +280,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         SCHEM_Y = schematicStartHeight();
 
         // plotY and roadY are important to allow plot and/or road schematic "overflow" into each other
-        // without causing AIOOB exceptions when attempting either to set blocks to, or get block from G_SCH
+        // without causing AIOOB exceptions when attempting either to set blocks to, or get block from the schematic columns
         // Default plot schematic start height, normalized to the minimum height schematics are pasted from.
         plotY = PLOT_HEIGHT - SCHEM_Y;
         int minRoadWall = Settings.Schematics.USE_WALL_IN_ROAD_SCHEM_HEIGHT ? Math.min(ROAD_HEIGHT, WALL_HEIGHT) : ROAD_HEIGHT;
@@ -309,6 +333,7 @@ public class HybridPlotWorld extends ClassicPlotWorld {
             }
         }
         int maxSchematicHeight = Math.max(plotY + plotSchemHeight, roadY + roadSchemHeight);
+        this.schematicColumns = new HybridSchematicColumns(this.SIZE, maxSchematicHeight);
 
         if (schematic3 != null) {
             this.PLOT_SCHEMATIC = true;
@@ -463,6 +488,21 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         }
     }
 
+    /**
+     * Get the layout of a chunk starting at the given position within the plot grid. Chunks repeat every
+     * {@link #SIZE} blocks, so the layout is computed once per offset and shared between chunks.
+     *
+     * @param relativeOffsetX the x coordinate of the chunk, relative to the plot grid
+     * @param relativeOffsetZ the z coordinate of the chunk, relative to the plot grid
+     * @return the chunk layout
+     */
+    HybridChunkTemplate getChunkTemplate(final short relativeOffsetX, final short relativeOffsetZ) {
+        return this.chunkTemplates.computeIfAbsent(
+                relativeOffsetX << 16 | relativeOffsetZ,
+                key -> new HybridChunkTemplate(this, relativeOffsetX, relativeOffsetZ)
+        );
+    }
+
     private void addOverlayBlock(short x, short y, short z, BaseBlock id, boolean rotate, int height) {
         if (z < 0) {
             z += this.SIZE;
@@ -477,8 +517,6 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         if (rotate) {
             id = rotate(id);
         }
-        int pair = MathMan.pair(x, z);
-        BaseBlock[] existing = this.G_SCH.computeIfAbsent(pair, k -> new BaseBlock[height]);
         if (y >= height) {
             if (y > lastOverlayHeightError) {
                 lastOverlayHeightError = y;
@@ -491,7 +529,10 @@ public class HybridPlotWorld extends ClassicPlotWorld {
             }
             return;
         }
-        existing[y] = id;
+        boolean paletteFull = this.schematicColumns.isPaletteFull();
+        if (!this.schematicColumns.setBlock(x, y, z, id) && !paletteFull) {
+            LOGGER.error("Error adding overlay block in world {}. The schematics contain too many distinct blocks.", getWorldName());
+        }
     }
 
     private void addOverlayBiome(short x, short z, BiomeType id) {
@@ -505,8 +546,87 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         } else if (x >= this.SIZE) {
             x -= this.SIZE;
         }
-        int pair = MathMan.pair(x, z);
-        this.G_SCH_B.put(pair, id);
+        this.schematicColumns.setBiome(x, z, id);
+    }
+
+    /**
+     * Get the block of the road or plot schematic at a position relative to the plot grid. The y coordinate is relative
+     * to the height schematics are pasted from.
+     *
+     * @param x the x coordinate, between 0 and {@link #SIZE}
+     * @param y the y coordinate, between 0 and {@link #getSchematicHeight(int, int)}
+     * @param z the z coordinate, between 0 and {@link #SIZE}
+     * @return the schematic block, or {@code null} if the schematic does not set one
+     * @since TODO
+     */
+    public @Nullable BaseBlock getSchematicBlock(final int x, final int y, final int z) {
+        final char[] column = this.schematicColumns.getColumn(x, z);
+        if (column == null || y < 0 || y >= column.length) {
+            return null;
+        }
+        return this.schematicColumns.getBlock(column[y]);
+    }
+
+    /**
+     * Get the height of the road or plot schematic column at a position relative to the plot grid.
+     *
+     * @param x the x coordinate, between 0 and {@link #SIZE}
+     * @param z the z coordinate, between 0 and {@link #SIZE}
+     * @return the height of the column, or {@code 0} if no schematic is pasted there
+     * @since TODO
+     */
+    public int getSchematicHeight(final int x, final int z) {
+        final char[] column = this.schematicColumns.getColumn(x, z);
+        return column == null ? 0 : column.length;
+    }
+
+    /**
+     * Get the biome of the road or plot schematic at a position relative to the plot grid.
+     *
+     * @param x the x coordinate, between 0 and {@link #SIZE}
+     * @param z the z coordinate, between 0 and {@link #SIZE}
+     * @return the schematic biome, or {@code null} if the schematic does not set one
+     * @since TODO
+     */
+    public @Nullable BiomeType getSchematicBiome(final int x, final int z) {
+        return this.schematicColumns.getBiome(x, z);
+    }
+
+    HybridSchematicColumns getSchematicColumns() {
+        return this.schematicColumns;
+    }
+
+    private Map<Integer, BaseBlock[]> buildLegacySchematicBlocks() {
+        final HybridSchematicColumns columns = this.schematicColumns;
+        final Map<Integer, BaseBlock[]> blocks = new HashMap<>();
+        for (short x = 0; x < this.SIZE; x++) {
+            for (short z = 0; z < this.SIZE; z++) {
+                final char[] column = columns.getColumn(x, z);
+                if (column == null) {
+                    continue;
+                }
+                final BaseBlock[] legacyColumn = new BaseBlock[column.length];
+                for (int y = 0; y < column.length; y++) {
+                    legacyColumn[y] = columns.getBlock(column[y]);
+                }
+                blocks.put(MathMan.pair(x, z), legacyColumn);
+            }
+        }
+        return blocks;
+    }
+
+    private Map<Integer, BiomeType> buildLegacySchematicBiomes() {
+        final HybridSchematicColumns columns = this.schematicColumns;
+        final Map<Integer, BiomeType> biomes = new HashMap<>();
+        for (short x = 0; x < this.SIZE; x++) {
+            for (short z = 0; z < this.SIZE; z++) {
+                final BiomeType biome = columns.getBiome(x, z);
+                if (biome != null) {
+                    biomes.put(MathMan.pair(x, z), biome);
+                }
+            }
+        }
+        return biomes;
     }
 
     /**
@@ -569,4 +689,177 @@ public class HybridPlotWorld extends ClassicPlotWorld {
         return SCHEM_Y + roadY;
     }
 
+    /**
+     * A map that is only filled when it is first accessed, backing the deprecated schematic maps.
+     */
+    private static final class LazyHashMap<V> extends HashMap<Integer, V> {
+
+        private Supplier<Map<Integer, V>> loader;
+
+        private LazyHashMap(final Supplier<Map<Integer, V>> loader) {
+            this.loader = loader;
+        }
+
+        private synchronized void load() {
+            if (this.loader != null) {
+                final Supplier<Map<Integer, V>> loader = this.loader;
+                this.loader = null;
+                super.putAll(loader.get());
+            }
+        }
+
+        @Override
+        public int size() {
+            load();
+            return super.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            load();
+            return super.isEmpty();
+        }
+
+        @Override
+        public V get(final Object key) {
+            load();
+            return super.get(key);
+        }
+
+        @Override
+        public V getOrDefault(final Object key, final V defaultValue) {
+            load();
+            return super.getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            load();
+            return super.containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(final Object value) {
+            load();
+            return super.containsValue(value);
+        }
+
+        @Override
+        public V put(final Integer key, final V value) {
+            load();
+            return super.put(key, value);
+        }
+
+        @Override
+        public void putAll(final Map<? extends Integer, ? extends V> map) {
+            load();
+            super.putAll(map);
+        }
+
+        @Override
+        public V remove(final Object key) {
+            load();
+            return super.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            load();
+            super.clear();
+        }
+
+        @Override
+        public Set<Integer> keySet() {
+            load();
+            return super.keySet();
+        }
+
+        @Override
+        public Collection<V> values() {
+            load();
+            return super.values();
+        }
+
+        @Override
+        public Set<Map.Entry<Integer, V>> entrySet() {
+            load();
+            return super.entrySet();
+        }
+
+        @Override
+        public void forEach(final BiConsumer<? super Integer, ? super V> action) {
+            load();
+            super.forEach(action);
+        }
+
+        @Override
+        public V putIfAbsent(final Integer key, final V value) {
+            load();
+            return super.putIfAbsent(key, value);
+        }
+
+        @Override
+        public boolean remove(final Object key, final Object value) {
+            load();
+            return super.remove(key, value);
+        }
+
+        @Override
+        public boolean replace(final Integer key, final V oldValue, final V newValue) {
+            load();
+            return super.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public V replace(final Integer key, final V value) {
+            load();
+            return super.replace(key, value);
+        }
+
+        @Override
+        public V computeIfAbsent(final Integer key, final Function<? super Integer, ? extends V> mappingFunction) {
+            load();
+            return super.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public V computeIfPresent(
+                final Integer key,
+                final BiFunction<? super Integer, ? super V, ? extends V> remappingFunction
+        ) {
+            load();
+            return super.computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public V compute(final Integer key, final BiFunction<? super Integer, ? super V, ? extends V> remappingFunction) {
+            load();
+            return super.compute(key, remappingFunction);
+        }
+
+        @Override
+        public V merge(
+                final Integer key, final V value,
+                final BiFunction<? super V, ? super V, ? extends V> remappingFunction
+        ) {
+            load();
+            return super.merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public void replaceAll(final BiFunction<? super Integer, ? super V, ? extends V> function) {
+            load();
+            super.replaceAll(function);
+        }
+
+        @Override
+        public Object clone() {
+            load();
+            return super.clone();
+        }
+
+        // equals, hashCode and toString of AbstractMap go through size() and entrySet(), which load the map
+
+    }
+
 }
@@ -0,0 +1,134 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.sk89q.worldedit.world.biome.BiomeType;
+import com.sk89q.worldedit.world.block.BaseBlock;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The road and plot schematics of a {@link HybridPlotWorld}, stored per column relative to the plot grid. Columns are
+ * kept in flat arrays indexed by {@code x * size + z}, and blocks are stored as indices into a shared palette, as
+ * schematics tend to repeat a small number of blocks many times.
+ */
+final class HybridSchematicColumns {
+
+    /**
+     * The palette index used for positions without a schematic block.
+     */
+    static final char EMPTY = 0;
+
+    private final int size;
+    private final int height;
+    private final Map<BaseBlock, Character> paletteIndex = new HashMap<>();
+    private BaseBlock[] palette = new BaseBlock[16];
+    private int paletteSize = 1;
+    private char[][] columns;
+    private BiomeType[] biomes;
+    private boolean paletteFull = false;
+
+    /**
+     * @param size   the size of the plot grid, {@link HybridPlotWorld#SIZE}
+     * @param height the height of every schematic column
+     */
+    HybridSchematicColumns(final int size, final int height) {
+        this.size = size;
+        this.height = height;
+    }
+
+    /**
+     * @return the height of every schematic column
+     */
+    int getHeight() {
+        return this.height;
+    }
+
+    /**
+     * Set a block in a column, allocating the column if needed.
+     *
+     * @return {@code false} if the palette has no room for another distinct block
+     */
+    boolean setBlock(final int x, final int y, final int z, final BaseBlock block) {
+        if (this.columns == null) {
+            this.columns = new char[this.size * this.size][];
+        }
+        final int index = x * this.size + z;
+        char[] column = this.columns[index];
+        if (column == null) {
+            column = this.columns[index] = new char[this.height];
+        }
+        final Character id = this.paletteIndex.get(block);
+        if (id != null) {
+            column[y] = id;
+            return true;
+        }
+        if (this.paletteSize > Character.MAX_VALUE) {
+            this.paletteFull = true;
+            return false;
+        }
+        if (this.paletteSize == this.palette.length) {
+            this.palette = Arrays.copyOf(this.palette, Math.min(this.palette.length << 1, Character.MAX_VALUE + 1));
+        }
+        final char next = (char) this.paletteSize++;
+        this.palette[next] = block;
+        this.paletteIndex.put(block, next);
+        column[y] = next;
+        return true;
+    }
+
+    void setBiome(final int x, final int z, final BiomeType biome) {
+        if (this.biomes == null) {
+            this.biomes = new BiomeType[this.size * this.size];
+        }
+        this.biomes[x * this.size + z] = biome;
+    }
+
+    /**
+     * @return if blocks were dropped because the palette ran out of room
+     */
+    boolean isPaletteFull() {
+        return this.paletteFull;
+    }
+
+    /**
+     * Get the palette indices of a column, or {@code null} if no schematic block is placed in it. Resolve the indices
+     * with {@link #getBlock(char)}.
+     */
+    char @Nullable [] getColumn(final int x, final int z) {
+        final char[][] columns = this.columns;
+        return columns == null ? null : columns[x * this.size + z];
+    }
+
+    /**
+     * @return the block for a palette index, or {@code null} for {@link #EMPTY}
+     */
+    @Nullable BaseBlock getBlock(final char id) {
+        return this.palette[id];
+    }
+
+    @Nullable BiomeType getBiome(final int x, final int z) {
+        final BiomeType[] biomes = this.biomes;
+        return biomes == null ? null : biomes[x * this.size + z];
+    }
+
+}
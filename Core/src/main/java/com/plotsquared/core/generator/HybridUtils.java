@@ -39,7 +39,6 @@ import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.ChunkManager;
 import com.plotsquared.core.util.EventDispatcher;
-import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.RegionManager;
 import com.plotsquared.core.util.RegionUtil;
 import com.plotsquared.core.util.SchematicHandler;
@@ -53,7 +52,6 @@ import com.sk89q.worldedit.regions.CuboidRegion;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import com.sk89q.worldedit.world.block.BlockState;
-import com.sk89q.worldedit.world.block.BlockType;
 import com.sk89q.worldedit.world.block.BlockTypes;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -65,10 +63,13 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -128,8 +129,8 @@ public class HybridUtils {
          *
          * vertices: store air map and compare with neighbours
          * for each block check the adjacent
-         *  - Store all blocks then go through in second loop
-         *  - recheck each block
+         *  - Analyse one chunk at a time, see RegionAnalysis
+         *  - keep the air map of chunk borders to check blocks next to other chunks
          *
          */
         TaskManager.runTaskAsync(() -> {
@@ -154,22 +155,8 @@ public class HybridUtils {
             final int height = area.getMaxGenHeight() - area.getMinGenHeight() + 1;
             final int minHeight = area.getMinGenHeight();
 
-            final BlockState[][][] newBlocks = new BlockState[height][width][length];
-
-            BlockArrayCacheScopedQueueCoordinator oldBlockQueue = new BlockArrayCacheScopedQueueCoordinator(
-                    Location.at("", region.getMinimumPoint().withY(hpw.getMinGenHeight())),
-                    Location.at("", region.getMaximumPoint().withY(hpw.getMaxGenHeight()))
-            );
-
-            region.getChunks().forEach(chunkPos -> {
-                int relChunkX = chunkPos.getX() - cbx;
-                int relChunkZ = chunkPos.getZ() - cbz;
-                oldBlockQueue.setOffsetX(relChunkX << 4);
-                oldBlockQueue.setOffsetZ(relChunkZ << 4);
-                hpw.getGenerator().generateChunk(oldBlockQueue, hpw, false);
-            });
-
-            final BlockState[][][] oldBlocks = oldBlockQueue.getBlockStates();
+            final RegionAnalysis analysis = new RegionAnalysis(bx, bz, width, length, height);
+            final List<CompletableFuture<?>> chunks = Collections.synchronizedList(new ArrayList<>());
 
             QueueCoordinator queue = area.getQueue();
             queue.addReadChunks(region.getChunks());
@@ -204,8 +191,13 @@ public class HybridUtils {
                 int chunkBlockX = X << 4;
                 int chunkBlockZ = Z << 4;
 
-                int xb = chunkBlockX - bx;
-                int zb = chunkBlockZ - bz;
+                // Only read the world here, and leave the comparison to an async task, so that chunks are analysed in
+                // parallel while the queue moves on to the next chunk
+                List<BlockState> palette = new ArrayList<>();
+                Map<BlockState, Character> paletteIndex = new IdentityHashMap<>();
+                palette.add(AIR);
+                paletteIndex.put(AIR, (char) 0);
+                char[] blocks = new char[height << 8];
                 for (int x = minX; x <= maxX; x++) {
                     int xx = chunkBlockX + x;
                     for (int z = minZ; z <= maxZ; z++) {
@@ -216,98 +208,60 @@ public class HybridUtils {
                             if (block == null) {
                                 block = AIR;
                             }
-                            int xr = xb + x;
-                            int zr = zb + z;
-                            newBlocks[yIndex][xr][zr] = block;
-                        }
-                    }
-                }
-            });
-
-            final Runnable run = () -> {
-                int size = width * length;
-                int[] changes = new int[size];
-                int[] faces = new int[size];
-                int[] data = new int[size];
-                int[] air = new int[size];
-                int[] variety = new int[size];
-                int i = 0;
-                for (int x = 0; x < width; x++) {
-                    for (int z = 0; z < length; z++) {
-                        Set<BlockType> types = new HashSet<>();
-                        for (int yIndex = 0; yIndex < height; yIndex++) {
-                            BlockState old = oldBlocks[yIndex][x][z]; // Nullable
-                            BlockState now = newBlocks[yIndex][x][z]; // Not null
-                            if (now == null) {
-                                throw new NullPointerException(String.format(
-                                        "\"now\" block null attempting to perform plot analysis. Indexes: x=%d of %d, yIndex=%d" +
-                                                " of %d, z=%d of %d",
-                                        x,
-                                        width,
-                                        yIndex,
-                                        height,
-                                        z,
-                                        length
-                                ));
-                            }
-                            if (!now.equals(old) && !(old == null && now.getBlockType().equals(BlockTypes.AIR))) {
-                                changes[i]++;
-                            }
-                            if (now.getBlockType().getMaterial().isAir()) {
-                                air[i]++;
-                            } else {
-                                // check vertices
-                                // modifications_adjacent
-                                if (x > 0 && z > 0 && yIndex > 0 && x < width - 1 && z < length - 1 && yIndex < (height - 1)) {
-                                    if (newBlocks[yIndex - 1][x][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x - 1][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x][z - 1].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex + 1][x][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x + 1][z].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                    if (newBlocks[yIndex][x][z + 1].getBlockType().getMaterial().isAir()) {
-                                        faces[i]++;
-                                    }
-                                }
-
-                                if (!now.equals(now.getBlockType().getDefaultState())) {
-                                    data[i]++;
-                                }
-                                types.add(now.getBlockType());
+                            Character id = paletteIndex.get(block);
+                            if (id == null) {
+                                id = (char) palette.size();
+                                palette.add(block);
+                                paletteIndex.put(block, id);
                             }
+                            blocks[yIndex << 8 | x << 4 | z] = id;
                         }
-                        variety[i] = types.size();
-                        i++;
                     }
                 }
-                // analyze plot
-                // put in analysis obj
 
-                // run whenDone
-                PlotAnalysis analysis = new PlotAnalysis();
-                analysis.changes = (int) (MathMan.getMean(changes) * 100);
-                analysis.faces = (int) (MathMan.getMean(faces) * 100);
-                analysis.data = (int) (MathMan.getMean(data) * 100);
-                analysis.air = (int) (MathMan.getMean(air) * 100);
-                analysis.variety = (int) (MathMan.getMean(variety) * 100);
+                final int finalMinX = minX;
+                final int finalMinZ = minZ;
+                final int finalMaxX = maxX;
+                final int finalMaxZ = maxZ;
+                CompletableFuture<Void> future = new CompletableFuture<>();
+                chunks.add(future);
+                TaskManager.runTaskAsync(() -> {
+                    try {
+                        BlockArrayCacheScopedQueueCoordinator baseline = new BlockArrayCacheScopedQueueCoordinator(
+                                Location.at("", chunkBlockX + finalMinX, hpw.getMinGenHeight(), chunkBlockZ + finalMinZ),
+                                Location.at("", chunkBlockX + finalMaxX, hpw.getMaxGenHeight(), chunkBlockZ + finalMaxZ)
+                        );
+                        hpw.getGenerator().generateChunk(baseline, hpw, false);
+                        analysis.analyzeChunk(
+                                X,
+                                Z,
+                                finalMinX,
+                                finalMinZ,
+                                finalMaxX,
+                                finalMaxZ,
+                                palette.toArray(new BlockState[0]),
+                                blocks,
+                                baseline.getBlockStates()
+                        );
+                        future.complete(null);
+                    } catch (Throwable throwable) {
+                        future.completeExceptionally(throwable);
+                    }
+                });
+            });
 
-                analysis.changes_sd = (int) (MathMan.getSD(changes, analysis.changes) * 100);
-                analysis.faces_sd = (int) (MathMan.getSD(faces, analysis.faces) * 100);
-                analysis.data_sd = (int) (MathMan.getSD(data, analysis.data) * 100);
-                analysis.air_sd = (int) (MathMan.getSD(air, analysis.air) * 100);
-                analysis.variety_sd = (int) (MathMan.getSD(variety, analysis.variety) * 100);
-                whenDone.value = analysis;
-                whenDone.run();
-            };
+            final Runnable run = () -> CompletableFuture
+                    .allOf(chunks.toArray(new CompletableFuture[0]))
+                    .whenComplete((result, throwable) -> {
+                        if (throwable != null) {
+                            LOGGER.error("Failed to analyse region {} in world {}", region, world, throwable);
+                            return;
+                        }
+                        TaskManager.runTask(() -> {
+                            whenDone.value = analysis.complete();
+                            whenDone.run();
+                        });
+                    });
             queue.setCompleteTask(run);
             queue.enqueue();
         });
@@ -646,6 +600,7 @@ public class HybridUtils {
                 }
             }
             short size = plotWorld.SIZE;
+            HybridSchematicColumns schematicColumns = plotWorld.getSchematicColumns();
             for (int X = 0; X < 16; X++) {
                 short absX = (short) ((finalX + X) % size);
                 for (int Z = 0; Z < 16; Z++) {
@@ -671,11 +626,12 @@ public class HybridUtils {
                         condition = !gx || !gz || !lx || !lz;
                     }
                     if (condition) {
-                        BaseBlock[] blocks = plotWorld.G_SCH.get(MathMan.pair(absX, absZ));
+                        char[] blocks = schematicColumns.getColumn(absX, absZ);
+                        int height = blocks == null ? 0 : blocks.length;
                         int minY = plotWorld.getRoadYStart();
-                        int maxDy = Math.max(extend, blocks.length);
+                        int maxDy = Math.max(extend, height);
                         for (int dy = 0; dy < maxDy; dy++) {
-                            if (dy > blocks.length - 1) {
+                            if (dy > height - 1) {
                                 queue.setBlock(
                                         finalX + X + plotWorld.ROAD_OFFSET_X,
                                         minY + dy,
@@ -683,7 +639,7 @@ public class HybridUtils {
                                         WEExtent.AIRBASE
                                 );
                             } else {
-                                BaseBlock block = blocks[dy];
+                                BaseBlock block = schematicColumns.getBlock(blocks[dy]);
                                 if (block != null) {
                                     queue.setBlock(
                                             finalX + X + plotWorld.ROAD_OFFSET_X,
@@ -701,7 +657,7 @@ public class HybridUtils {
                                 }
                             }
                         }
-                        BiomeType biome = plotWorld.G_SCH_B.get(MathMan.pair(absX, absZ));
+                        BiomeType biome = schematicColumns.getBiome(absX, absZ);
                         if (biome != null) {
                             queue.setBiome(finalX + X + plotWorld.ROAD_OFFSET_X, finalZ + Z + plotWorld.ROAD_OFFSET_Z, biome);
                         } else {
@@ -0,0 +1,276 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.generator;
+
+import com.plotsquared.core.plot.expiration.PlotAnalysis;
+import com.sk89q.worldedit.world.block.BlockState;
+import com.sk89q.worldedit.world.block.BlockType;
+import com.sk89q.worldedit.world.block.BlockTypes;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accumulates the {@link PlotAnalysis} metrics of a region one chunk at a time. Per-column metrics are folded into running
+ * sums as each chunk is analysed, so only the columns on chunk borders are kept until the end, where their faces towards
+ * neighbouring chunks are counted. Chunks may be analysed concurrently.
+ */
+final class RegionAnalysis {
+
+    private static final int CHANGES = 0;
+    private static final int FACES = 1;
+    private static final int DATA = 2;
+    private static final int AIR = 3;
+    private static final int VARIETY = 4;
+
+    private final int bx;
+    private final int bz;
+    private final int width;
+    private final int length;
+    private final int height;
+    private final long[] interior;
+    private final long[] sums = new long[5];
+    private final long[] squares = new long[5];
+    // Air bitmaps of the columns on chunk borders, and the faces counted so far for those that face another chunk
+    private final Map<Integer, long[]> borderAir = new ConcurrentHashMap<>();
+    private final Map<Integer, Integer> pendingFaces = new ConcurrentHashMap<>();
+
+    /**
+     * @param bx     minimum x coordinate of the region
+     * @param bz     minimum z coordinate of the region
+     * @param width  size of the region along the x-axis
+     * @param length size of the region along the z-axis
+     * @param height number of blocks in every column
+     */
+    RegionAnalysis(final int bx, final int bz, final int width, final int length, final int height) {
+        this.bx = bx;
+        this.bz = bz;
+        this.width = width;
+        this.length = length;
+        this.height = height;
+        // Faces are only counted for blocks that are not at the top or bottom of the column
+        this.interior = new long[(height + 63) >> 6];
+        for (int y = 1; y < height - 1; y++) {
+            this.interior[y >> 6] |= 1L << y;
+        }
+    }
+
+    /**
+     * Analyse the part of a chunk that lies within the region.
+     *
+     * @param chunkX   chunk x coordinate
+     * @param chunkZ   chunk z coordinate
+     * @param minX     minimum chunk-relative x coordinate within the region
+     * @param minZ     minimum chunk-relative z coordinate within the region
+     * @param maxX     maximum chunk-relative x coordinate within the region
+     * @param maxZ     maximum chunk-relative z coordinate within the region
+     * @param palette  the distinct blocks in the chunk
+     * @param blocks   palette indices of the blocks in the world, indexed by {@code yIndex << 8 | x << 4 | z}
+     * @param baseline the blocks the generator places in the same area, indexed by {@code [yIndex][x - minX][z - minZ]}
+     */
+    void analyzeChunk(
+            final int chunkX, final int chunkZ, final int minX, final int minZ, final int maxX, final int maxZ,
+            final BlockState @NonNull [] palette, final char @NonNull [] blocks, final BlockState @NonNull [][][] baseline
+    ) {
+        final boolean[] paletteAir = new boolean[palette.length];
+        for (int i = 0; i < palette.length; i++) {
+            paletteAir[i] = palette[i].getBlockType().getMaterial().isAir();
+        }
+        final long[][] air = new long[256][];
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final long[] column = air[x << 4 | z] = new long[this.interior.length];
+                for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                    if (paletteAir[blocks[yIndex << 8 | x << 4 | z]]) {
+                        column[yIndex >> 6] |= 1L << yIndex;
+                    }
+                }
+            }
+        }
+        final long[] sums = new long[5];
+        final long[] squares = new long[5];
+        final Set<BlockType> types = new HashSet<>();
+        for (int x = minX; x <= maxX; x++) {
+            final int xr = (chunkX << 4) + x - this.bx;
+            for (int z = minZ; z <= maxZ; z++) {
+                final int zr = (chunkZ << 4) + z - this.bz;
+                final long[] column = air[x << 4 | z];
+                int changes = 0;
+                int data = 0;
+                int airCount = 0;
+                types.clear();
+                for (int yIndex = 0; yIndex < this.height; yIndex++) {
+                    final BlockState old = baseline[yIndex][x - minX][z - minZ];
+                    final BlockState now = palette[blocks[yIndex << 8 | x << 4 | z]];
+                    if (!now.equals(old) && !(old == null && now.getBlockType().equals(BlockTypes.AIR))) {
+                        changes++;
+                    }
+                    if ((column[yIndex >> 6] & 1L << yIndex) != 0) {
+                        airCount++;
+                    } else {
+                        if (!now.equals(now.getBlockType().getDefaultState())) {
+                            data++;
+                        }
+                        types.add(now.getBlockType());
+                    }
+                }
+                add(sums, squares, CHANGES, changes);
+                add(sums, squares, DATA, data);
+                add(sums, squares, AIR, airCount);
+                add(sums, squares, VARIETY, types.size());
+
+                final int index = xr * this.length + zr;
+                final boolean border = x == minX || x == maxX || z == minZ || z == maxZ;
+                if (border) {
+                    this.borderAir.put(index, column);
+                }
+                if (xr <= 0 || zr <= 0 || xr >= this.width - 1 || zr >= this.length - 1) {
+                    add(sums, squares, FACES, 0);
+                    continue;
+                }
+                int faces = 0;
+                for (int yIndex = 1; yIndex < this.height - 1; yIndex++) {
+                    if ((column[yIndex >> 6] & 1L << yIndex) == 0) {
+                        if ((column[(yIndex - 1) >> 6] & 1L << (yIndex - 1)) != 0) {
+                            faces++;
+                        }
+                        if ((column[(yIndex + 1) >> 6] & 1L << (yIndex + 1)) != 0) {
+                            faces++;
+                        }
+                    }
+                }
+                boolean pending = false;
+                if (x > minX) {
+                    faces += countFaces(column, air[(x - 1) << 4 | z]);
+                } else {
+                    pending = true;
+                }
+                if (x < maxX) {
+                    faces += countFaces(column, air[(x + 1) << 4 | z]);
+                } else {
+                    pending = true;
+                }
+                if (z > minZ) {
+                    faces += countFaces(column, air[x << 4 | (z - 1)]);
+                } else {
+                    pending = true;
+                }
+                if (z < maxZ) {
+                    faces += countFaces(column, air[x << 4 | (z + 1)]);
+                } else {
+                    pending = true;
+                }
+                if (pending) {
+                    this.pendingFaces.put(index, faces);
+                } else {
+                    add(sums, squares, FACES, faces);
+                }
+            }
+        }
+        synchronized (this) {
+            for (int i = 0; i < sums.length; i++) {
+                this.sums[i] += sums[i];
+                this.squares[i] += squares[i];
+            }
+        }
+    }
+
+    /**
+     * Count the faces between chunks, and compute the analysis once every chunk has been analysed.
+     *
+     * @return the analysis of the region
+     */
+    synchronized @NonNull PlotAnalysis complete() {
+        for (final Map.Entry<Integer, Integer> entry : this.pendingFaces.entrySet()) {
+            final int xr = entry.getKey() / this.length;
+            final int zr = entry.getKey() % this.length;
+            final long[] column = this.borderAir.get(entry.getKey());
+            int faces = entry.getValue();
+            final int x = this.bx + xr;
+            final int z = this.bz + zr;
+            if ((x - 1) >> 4 != x >> 4) {
+                faces += countFaces(column, this.borderAir.get(entry.getKey() - this.length));
+            }
+            if ((x + 1) >> 4 != x >> 4) {
+                faces += countFaces(column, this.borderAir.get(entry.getKey() + this.length));
+            }
+            if ((z - 1) >> 4 != z >> 4) {
+                faces += countFaces(column, this.borderAir.get(entry.getKey() - 1));
+            }
+            if ((z + 1) >> 4 != z >> 4) {
+                faces += countFaces(column, this.borderAir.get(entry.getKey() + 1));
+            }
+            add(this.sums, this.squares, FACES, faces);
+        }
+        final PlotAnalysis analysis = new PlotAnalysis();
+        analysis.changes = mean(CHANGES);
+        analysis.faces = mean(FACES);
+        analysis.data = mean(DATA);
+        analysis.air = mean(AIR);
+        analysis.variety = mean(VARIETY);
+        analysis.changes_sd = sd(CHANGES, analysis.changes);
+        analysis.faces_sd = sd(FACES, analysis.faces);
+        analysis.data_sd = sd(DATA, analysis.data);
+        analysis.air_sd = sd(AIR, analysis.air);
+        analysis.variety_sd = sd(VARIETY, analysis.variety);
+        return analysis;
+    }
+
+    /**
+     * Count the non-air blocks of a column that have an air block next to them in a neighbouring column.
+     */
+    private int countFaces(final long[] column, final long @Nullable [] neighbour) {
+        if (neighbour == null) {
+            // The neighbouring chunk could not be loaded
+            return 0;
+        }
+        int faces = 0;
+        for (int i = 0; i < column.length; i++) {
+            faces += Long.bitCount(~column[i] & neighbour[i] & this.interior[i]);
+        }
+        return faces;
+    }
+
+    private static void add(final long[] sums, final long[] squares, final int metric, final int value) {
+        sums[metric] += value;
+        squares[metric] += (long) value * value;
+    }
+
+    /**
+     * @see com.plotsquared.core.util.MathMan#getMean(int[])
+     */
+    private int mean(final int metric) {
+        return (int) ((double) this.sums[metric] / (this.width * this.length) * 100);
+    }
+
+    /**
+     * The standard deviation around the scaled mean, matching {@link com.plotsquared.core.util.MathMan#getSD(int[], double)}
+     * as previously applied to the per-column metrics.
+     */
+    private int sd(final int metric, final int mean) {
+        final long columns = (long) this.width * this.length;
+        final long deviation = this.squares[metric] - 2L * mean * this.sums[metric] + columns * mean * mean;
+        return (int) (Math.sqrt((double) deviation / columns) * 100);
+    }
+
+}
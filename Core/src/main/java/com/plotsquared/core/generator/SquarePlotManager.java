@@ -25,7 +25,6 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotId;
 import com.plotsquared.core.queue.QueueCoordinator;
-import com.plotsquared.core.util.HashUtil;
 import com.plotsquared.core.util.RegionManager;
 import com.sk89q.worldedit.regions.CuboidRegion;
 import org.apache.logging.log4j.LogManager;
@@ -172,51 +171,30 @@ public abstract class SquarePlotManager extends GridPlotManager {
             int rx = Math.floorMod(x, size);
             int dz = Math.floorDiv(z, size) + 1;
             int rz = Math.floorMod(z, size);
-            PlotId id = PlotId.of(dx, dz);
-            boolean[] merged = new boolean[]{rz <= pathWidthLower, rx > end, rz > end, rx <= pathWidthLower};
-            int hash = HashUtil.hash(merged);
+            int merged = (rz <= pathWidthLower ? 8 : 0) | (rx > end ? 4 : 0) | (rz > end ? 2 : 0)
+                    | (rx <= pathWidthLower ? 1 : 0);
             // Not merged, and no need to check if it is
-            if (hash == 0) {
-                return id;
+            if (merged == 0) {
+                return PlotId.of(dx, dz);
             }
-            Plot plot = squarePlotWorld.getOwnedPlotAbs(id);
+            Plot plot = squarePlotWorld.getOwnedPlotAbs(dx, dz);
             // Not merged, and standing on road
             if (plot == null) {
                 return null;
             }
-            switch (hash) {
-                case 8 -> {
-                    // north
-                    return plot.isMerged(Direction.NORTH) ? id : null;
-                }
-                case 4 -> {
-                    // east
-                    return plot.isMerged(Direction.EAST) ? id : null;
-                }
-                case 2 -> {
-                    // south
-                    return plot.isMerged(Direction.SOUTH) ? id : null;
-                }
-                case 1 -> {
-                    // west
-                    return plot.isMerged(Direction.WEST) ? id : null;
-                }
-                case 12 -> {
-                    // northeast
-                    return plot.isMerged(Direction.NORTHEAST) ? id : null;
-                }
-                case 6 -> {
-                    // southeast
-                    return plot.isMerged(Direction.SOUTHEAST) ? id : null;
-                }
-                case 3 -> {
-                    // southwest
-                    return plot.isMerged(Direction.SOUTHWEST) ? id : null;
-                }
-                case 9 -> {
-                    // northwest
-                    return plot.isMerged(Direction.NORTHWEST) ? id : null;
-                }
+            Direction direction = switch (merged) {
+                case 8 -> Direction.NORTH;
+                case 4 -> Direction.EAST;
+                case 2 -> Direction.SOUTH;
+                case 1 -> Direction.WEST;
+                case 12 -> Direction.NORTHEAST;
+                case 6 -> Direction.SOUTHEAST;
+                case 3 -> Direction.SOUTHWEST;
+                case 9 -> Direction.NORTHWEST;
+                default -> null;
+            };
+            if (direction != null && plot.isMerged(direction)) {
+                return PlotId.of(dx, dz);
             }
         } catch (Exception ignored) {
             LOGGER.error("Invalid plot / road width in settings.yml for world: {}", squarePlotWorld.getWorldName());
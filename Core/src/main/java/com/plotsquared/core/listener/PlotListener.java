@@ -167,7 +167,7 @@ public class PlotListener {
             }
             lastPlot.set(plot);
         }
-        this.eventDispatcher.callEntry(player, plot);
+        this.eventDispatcher.dispatchEntry(player, plot);
         if (plot.hasOwner()) {
             // This will inherit values from PlotArea
             final TitlesFlag.TitlesFlagValue titlesFlag = plot.getFlag(TitlesFlag.class);
@@ -467,7 +467,7 @@ public class PlotListener {
                 healRunnable.remove(player.getUUID());
             }
         } finally {
-            this.eventDispatcher.callLeave(player, plot);
+            this.eventDispatcher.dispatchLeave(player, plot);
         }
         return true;
     }
@@ -25,6 +25,7 @@ import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.world.PlotAreaManager;
+import com.plotsquared.core.util.CuboidRegionSet;
 import com.plotsquared.core.util.WEManager;
 import com.plotsquared.core.util.WorldUtil;
 import com.sk89q.worldedit.EditSession;
@@ -105,6 +106,10 @@ public class WESubscriber {
                     return;
                 }
             }
+            if (!(mask instanceof CuboidRegionSet)) {
+                // The mask is checked for every block changed by the edit session
+                mask = new CuboidRegionSet(mask);
+            }
             if (Settings.Enabled_Components.CHUNK_PROCESSOR) {
                 if (this.plotAreaManager.hasPlotArea(world)) {
                     event.setExtent(
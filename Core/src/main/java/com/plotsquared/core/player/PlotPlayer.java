@@ -21,12 +21,14 @@ package com.plotsquared.core.player;
 import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
 import com.google.common.primitives.Ints;
+import com.intellectualsites.annotations.NotPublic;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.collection.ByteArrayUtilities;
 import com.plotsquared.core.command.CommandCaller;
 import com.plotsquared.core.command.RequiredType;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.Caption;
+import com.plotsquared.core.configuration.caption.CaptionComponentCache;
 import com.plotsquared.core.configuration.caption.CaptionMap;
 import com.plotsquared.core.configuration.caption.CaptionUtility;
 import com.plotsquared.core.configuration.caption.LocaleHolder;
@@ -92,6 +94,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
     private static final String NON_EXISTENT_CAPTION = "<red>PlotSquared does not recognize the caption: ";
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + PlotPlayer.class.getSimpleName());
+    private static final String LAST_PLOT_KEY = PlayerMetaDataKeys.TEMPORARY_LAST_PLOT.toString();
 
     // Used to track debug mode
     private static final Set<PlotPlayer<?>> debugModeEnabled =
@@ -104,6 +107,12 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
     private final EventDispatcher eventDispatcher;
     private final PermissionHandler permissionHandler;
     private Map<String, byte[]> metaMap = new HashMap<>();
+    /**
+     * Cached plot counts per plot area. Index 0 holds the number of plots owned by this player
+     * in the area, index 1 how many of those are done. Entries are computed lazily and kept
+     * up to date by the plot areas through {@link #updatePlotCount(PlotArea, int, boolean)}.
+     */
+    private final Map<PlotArea, int[]> plotCounts = new HashMap<>();
     /**
      * The metadata map.
      */
@@ -232,7 +241,10 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
             if (this.meta == null) {
                 this.meta = new ConcurrentHashMap<>();
             }
-            this.meta.put(key, value);
+            final Object previous = this.meta.put(key, value);
+            if (previous != value && LAST_PLOT_KEY.equals(key)) {
+                updateOccupancy(previous, value);
+            }
         }
     }
 
@@ -271,7 +283,23 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
      * @param key
      */
     Object deleteMeta(String key) {
-        return this.meta == null ? null : this.meta.remove(key);
+        final Object previous = this.meta == null ? null : this.meta.remove(key);
+        if (previous != null && LAST_PLOT_KEY.equals(key)) {
+            updateOccupancy(previous, null);
+        }
+        return previous;
+    }
+
+    /**
+     * Move this player between the occupants tracked by the plot areas when its last plot changes.
+     */
+    private void updateOccupancy(final @Nullable Object previous, final @Nullable Object current) {
+        if (previous instanceof Plot plot && plot.getArea() != null) {
+            plot.getArea().updateOccupant(plot.getId(), this, false);
+        }
+        if (current instanceof Plot plot && plot.getArea() != null) {
+            plot.getArea().updateOccupant(plot.getId(), this, true);
+        }
     }
 
 
@@ -322,18 +350,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
             return getPlotCount(getLocation().getWorldName());
         }
         final AtomicInteger count = new AtomicInteger(0);
-        final UUID uuid = getUUID();
-        this.plotAreaManager.forEachPlotArea(value -> {
-            if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
-                for (Plot plot : value.getPlotsAbs(uuid)) {
-                    if (!DoneFlag.isDone(plot)) {
-                        count.incrementAndGet();
-                    }
-                }
-            } else {
-                count.addAndGet(value.getPlotsAbs(uuid).size());
-            }
-        });
+        this.plotAreaManager.forEachPlotArea(value -> count.addAndGet(getPlotCount(value)));
         return count.get();
     }
 
@@ -359,19 +376,70 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
      * @return plot count
      */
     public int getPlotCount(String world) {
-        UUID uuid = getUUID();
         int count = 0;
         for (PlotArea area : this.plotAreaManager.getPlotAreasSet(world)) {
-            if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
-                count +=
-                        area.getPlotsAbs(uuid).stream().filter(plot -> !DoneFlag.isDone(plot)).count();
-            } else {
-                count += area.getPlotsAbs(uuid).size();
-            }
+            count += getPlotCount(area);
         }
         return count;
     }
 
+    private int getPlotCount(final @NonNull PlotArea area) {
+        synchronized (this.plotCounts) {
+            int[] counts = this.plotCounts.get(area);
+            if (counts == null) {
+                counts = new int[2];
+                for (final Plot plot : area.getPlotsAbs(getUUID())) {
+                    counts[0]++;
+                    if (DoneFlag.isDone(plot)) {
+                        counts[1]++;
+                    }
+                }
+                this.plotCounts.put(area, counts);
+            }
+            return Settings.Done.COUNTS_TOWARDS_LIMIT ? counts[0] : counts[0] - counts[1];
+        }
+    }
+
+    /**
+     * Update the cached number of plots this player owns in an area. This is called by the
+     * area whenever a plot of this player is claimed, unclaimed or changes owner.
+     * This method is not part of the API.
+     *
+     * @param area  the area the plot is in
+     * @param delta the change in the number of owned plots
+     * @param done  whether the plot is done
+     */
+    @NotPublic
+    public void updatePlotCount(final @NonNull PlotArea area, final int delta, final boolean done) {
+        synchronized (this.plotCounts) {
+            final int[] counts = this.plotCounts.get(area);
+            if (counts == null) {
+                return;
+            }
+            counts[0] += delta;
+            if (done) {
+                counts[1] += delta;
+            }
+            if (counts[0] < 0 || counts[1] < 0 || counts[1] > counts[0]) {
+                // Out of sync, count again on the next lookup
+                this.plotCounts.remove(area);
+            }
+        }
+    }
+
+    /**
+     * Discard the cached number of plots this player owns in an area, such as when the done
+     * state of one of their plots changed. This method is not part of the API.
+     *
+     * @param area the area to discard the cached count of
+     */
+    @NotPublic
+    public void invalidatePlotCount(final @NonNull PlotArea area) {
+        synchronized (this.plotCounts) {
+            this.plotCounts.remove(area);
+        }
+    }
+
     public int getClusterCount(String world) {
         int count = 0;
         for (PlotArea area : this.plotAreaManager.getPlotAreasSet(world)) {
@@ -626,7 +694,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
             removePersistentMeta("quitLoc");
         }
         if (plot != null) {
-            this.eventDispatcher.callLeave(this, plot);
+            this.eventDispatcher.dispatchLeave(this, plot);
         }
         if (Settings.Enabled_Components.BAN_DELETER && isBanned()) {
             for (Plot owned : getPlots()) {
@@ -637,8 +705,12 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
         if (PlotSquared.platform().expireManager() != null) {
             PlotSquared.platform().expireManager().storeDate(getUUID(), System.currentTimeMillis());
         }
+        deleteMeta(LAST_PLOT_KEY);
         PlotSquared.platform().playerManager().removePlayer(this);
         PlotSquared.platform().unregister(this);
+        synchronized (this.plotCounts) {
+            this.plotCounts.clear();
+        }
 
         debugModeEnabled.remove(this);
     }
@@ -880,9 +952,8 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
             final int fadeIn, final int stay, final int fadeOut,
             final @NonNull TagResolver... replacements
     ) {
-        final Component titleComponent = MiniMessage.miniMessage().deserialize(title.getComponent(this), replacements);
-        final Component subtitleComponent =
-                MiniMessage.miniMessage().deserialize(subtitle.getComponent(this), replacements);
+        final Component titleComponent = deserialize(title.getComponent(this), replacements);
+        final Component subtitleComponent = deserialize(subtitle.getComponent(this), replacements);
         final Title.Times times = Title.Times.times(
                 Duration.of(Settings.Titles.TITLES_FADE_IN * 50L, ChronoUnit.MILLIS),
                 Duration.of(Settings.Titles.TITLES_STAY * 50L, ChronoUnit.MILLIS),
@@ -892,6 +963,14 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
                 .title(titleComponent, subtitleComponent, times));
     }
 
+    private static Component deserialize(final @NonNull String message, final @NonNull TagResolver... replacements) {
+        // Messages without replacements are the same for every send, so they only need to be parsed once
+        if (replacements.length == 0) {
+            return CaptionComponentCache.deserialize(message);
+        }
+        return MiniMessage.miniMessage().deserialize(message, replacements);
+    }
+
     /**
      * Method designed to send an ActionBar to a player.
      *
@@ -920,7 +999,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
                 .replace("<prefix>", TranslatableCaption.of("core.prefix").getComponent(this));
 
 
-        final Component component = MiniMessage.miniMessage().deserialize(message, replacements);
+        final Component component = deserialize(message, replacements);
         getAudience().sendActionBar(component);
     }
 
@@ -946,7 +1025,7 @@ public abstract class PlotPlayer<P> implements CommandCaller, OfflinePlotPlayer,
                 .replace('\u2010', '%').replace('\u2020', '&').replace('\u2030', '&')
                 .replace("<prefix>", TranslatableCaption.of("core.prefix").getComponent(this));
         // Parse the message
-        final Component component = MiniMessage.miniMessage().deserialize(message, replacements);
+        final Component component = deserialize(message, replacements);
         if (!Objects.equal(component, this.getMeta("lastMessage"))
                 || System.currentTimeMillis() - this.<Long>getMeta("lastMessageTime") > 5000) {
             setMeta("lastMessage", component);
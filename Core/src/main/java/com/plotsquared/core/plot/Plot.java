@@ -47,12 +47,14 @@ import com.plotsquared.core.plot.flag.GlobalFlagContainer;
 import com.plotsquared.core.plot.flag.InternalFlag;
 import com.plotsquared.core.plot.flag.PlotFlag;
 import com.plotsquared.core.plot.flag.implementations.DescriptionFlag;
+import com.plotsquared.core.plot.flag.implementations.DoneFlag;
 import com.plotsquared.core.plot.flag.implementations.KeepFlag;
 import com.plotsquared.core.plot.flag.implementations.ServerPlotFlag;
 import com.plotsquared.core.plot.flag.types.DoubleFlag;
 import com.plotsquared.core.plot.schematic.Schematic;
 import com.plotsquared.core.plot.world.SinglePlotArea;
 import com.plotsquared.core.queue.QueueCoordinator;
+import com.plotsquared.core.util.CuboidRegionSet;
 import com.plotsquared.core.util.EventDispatcher;
 import com.plotsquared.core.util.MathMan;
 import com.plotsquared.core.util.PlayerManager;
@@ -129,15 +131,15 @@ public class Plot {
     /**
      * Plot flag container
      */
-    private final FlagContainer flagContainer = new FlagContainer(null);
+    private final FlagContainer flagContainer = new FlagContainer(null, this::handleFlagUpdate);
     /**
-     * Utility used to manage plot comments
+     * Utility used to manage plot comments, created on first access
      */
-    private final PlotCommentContainer plotCommentContainer = new PlotCommentContainer(this);
+    private PlotCommentContainer plotCommentContainer;
     /**
-     * Utility used to modify the plot
+     * Utility used to modify the plot, created on first access
      */
-    private final PlotModificationManager plotModificationManager = new PlotModificationManager(this);
+    private PlotModificationManager plotModificationManager;
     /**
      * Represents whatever the database manager needs it to: <br>
      * - A value of -1 usually indicates the plot will not be stored in the DB<br>
@@ -206,6 +208,12 @@ public class Plot {
 
     private Set<Plot> connectedCache;
 
+    /**
+     * The regions of this plot, shared by all plots connected to the base plot. Only valid as long as {@link #connectedCache}
+     * of the base plot is the same set as the one the regions were computed from.
+     */
+    private CachedRegions regionsCache;
+
     /**
      * Constructor for a new plot.
      * (Only changes after plot.create() will be properly set in the database)
@@ -468,7 +476,17 @@ public class Plot {
      * @param owner The new owner of this particular sub-plot.
      */
     public void setOwnerAbs(final @Nullable UUID owner) {
+        final UUID previous = this.owner;
         this.owner = owner;
+        if (this.area != null && !Objects.equals(previous, owner)) {
+            this.area.updatePlotOwner(this, previous);
+        }
+    }
+
+    private void handleFlagUpdate(final PlotFlag<?, ?> flag, final FlagContainer.PlotFlagUpdateType type) {
+        if (flag instanceof DoneFlag && this.area != null) {
+            this.area.updatePlotDone(this);
+        }
     }
 
     /**
@@ -543,6 +561,10 @@ public class Plot {
      * @return list of PlotPlayer(s) or an empty list
      */
     public @NonNull List<PlotPlayer<?>> getPlayersInPlot() {
+        if (Settings.Enabled_Components.EVENTS && this.area != null) {
+            // Players are tracked by the area while events are enabled
+            return this.area.getPlayersInPlot(this.id);
+        }
         final List<PlotPlayer<?>> players = new ArrayList<>();
         for (final PlotPlayer<?> player : PlotSquared.platform().playerManager().getPlayers()) {
             if (this.equals(player.getCurrentPlot())) {
@@ -681,24 +703,31 @@ public class Plot {
      * @return {@code true} if the player is added/trusted or is the owner, else {@code false}
      */
     public boolean isAdded(final @NonNull UUID uuid) {
-        if (!this.hasOwner() || getDenied().contains(uuid)) {
+        if (!this.hasOwner() || contains(this.denied, uuid)) {
             return false;
         }
         if (isOwner(uuid)) {
             return true;
         }
-        if (getMembers().contains(uuid)) {
+        if (contains(this.members, uuid)) {
             return isOnline();
         }
-        if (getTrusted().contains(uuid) || getTrusted().contains(DBFunc.EVERYONE)) {
+        if (contains(this.trusted, uuid) || contains(this.trusted, DBFunc.EVERYONE)) {
             return true;
         }
-        if (getMembers().contains(DBFunc.EVERYONE)) {
+        if (contains(this.members, DBFunc.EVERYONE)) {
             return isOnline();
         }
         return false;
     }
 
+    /**
+     * Null-safe membership check, so that reading the player lists of a plot does not create them.
+     */
+    private static boolean contains(final @Nullable Set<UUID> players, final @NonNull UUID uuid) {
+        return players != null && players.contains(uuid);
+    }
+
     /**
      * Checks if the player is not permitted on this plot.
      *
@@ -726,6 +755,8 @@ public class Plot {
      */
     public void setId(final @NonNull PlotId id) {
         this.id = id;
+        // The cached regions are located by the id
+        clearCache();
     }
 
     /**
@@ -1834,6 +1865,8 @@ public class Plot {
         final PlotId temp = PlotId.of(this.getId().getX(), this.getId().getY());
         this.id = plot.getId();
         plot.id = temp;
+        this.clearCache();
+        plot.clearCache();
         this.area.removePlot(this.getId());
         plot.area.removePlot(plot.getId());
         this.area.addPlotAbs(this);
@@ -1993,7 +2026,7 @@ public class Plot {
      * @return success or not
      */
     public boolean removeTrusted(UUID uuid) {
-        if (uuid == DBFunc.EVERYONE && !trusted.contains(uuid)) {
+        if (uuid == DBFunc.EVERYONE && !contains(this.trusted, uuid)) {
             boolean result = false;
             for (UUID other : new HashSet<>(getTrusted())) {
                 result = rmvTrusted(other) || result;
@@ -2123,17 +2156,22 @@ public class Plot {
                             .getX() ?
                             other :
                             this.origin;
+                    this.origin.regionsCache = null;
                     this.origin.origin = base;
+                    other.regionsCache = null;
                     other.origin = base;
                     this.origin = base;
                     this.connectedCache = null;
+                    this.regionsCache = null;
                 }
             } else {
                 if (this.origin != null) {
+                    this.origin.regionsCache = null;
                     this.origin.origin = null;
                     this.origin = null;
                 }
                 this.connectedCache = null;
+                this.regionsCache = null;
             }
             DBFunc.setMerged(this, this.getSettings().getMerged());
         }
@@ -2171,7 +2209,9 @@ public class Plot {
 
     public void clearCache() {
         this.connectedCache = null;
+        this.regionsCache = null;
         if (this.origin != null) {
+            this.origin.regionsCache = null;
             this.origin.origin = null;
             this.origin = null;
         }
@@ -2368,19 +2408,32 @@ public class Plot {
 
     /**
      * This will combine each plot into effective rectangular regions<br>
-     * - This result is cached globally<br>
-     * - Useful for handling non rectangular shapes
+     * - This result is cached by the base plot until the plot is merged or unlinked<br>
+     * - Useful for handling non rectangular shapes<br>
+     * - The returned set is an immutable {@link CuboidRegionSet}, and its regions must not be modified
      *
      * @return all regions within the plot
      */
     public @NonNull Set<CuboidRegion> getRegions() {
+        CachedRegions cached = this.regionsCache;
         if (!this.isMerged()) {
-            Location pos1 = this.getBottomAbs().withY(getArea().getMinBuildHeight());
-            Location pos2 = this.getTopAbs().withY(getArea().getMaxBuildHeight());
-            CuboidRegion rg = new CuboidRegion(pos1.getBlockVector3(), pos2.getBlockVector3());
-            return Collections.singleton(rg);
+            if (cached == null || cached.connectedPlots() != null) {
+                Location pos1 = this.getBottomAbs().withY(getArea().getMinBuildHeight());
+                Location pos2 = this.getTopAbs().withY(getArea().getMaxBuildHeight());
+                CuboidRegion rg = new CuboidRegion(pos1.getBlockVector3(), pos2.getBlockVector3());
+                cached = new CachedRegions(null, new CuboidRegionSet(Collections.singleton(rg)));
+                this.regionsCache = cached;
+            }
+            return cached.regions();
+        }
+        Plot basePlot = this.getBasePlot(false);
+        if (basePlot != this) {
+            return basePlot.getRegions();
         }
         Set<Plot> plots = this.getConnectedPlots();
+        if (cached != null && cached.connectedPlots() == plots) {
+            return cached.regions();
+        }
         Set<CuboidRegion> regions = new HashSet<>();
         Set<PlotId> visited = new HashSet<>();
         for (Plot current : plots) {
@@ -2499,7 +2552,9 @@ public class Plot {
             BlockVector3 pos2 = BlockVector3.at(gtopabs.getX(), maxHeight, gtopabs.getZ());
             regions.add(new CuboidRegion(pos1, pos2));
         }
-        return regions;
+        cached = new CachedRegions(plots, new CuboidRegionSet(regions));
+        this.regionsCache = cached;
+        return cached.regions();
     }
 
     /**
@@ -2519,7 +2574,8 @@ public class Plot {
                 area = current;
             }
         }
-        return max;
+        // The regions are shared by all connected plots, so never hand out the cached instance
+        return max == null ? null : max.clone();
     }
 
     /**
@@ -2699,11 +2755,11 @@ public class Plot {
                     lesserPlot.getPlotModificationManager().removeRoadSouth(queue);
                     Plot diagonal = greaterPlot.getRelative(Direction.EAST);
                     if (diagonal.isMerged(Direction.NORTHWEST)) {
-                        lesserPlot.plotModificationManager.removeRoadSouthEast(queue);
+                        lesserPlot.getPlotModificationManager().removeRoadSouthEast(queue);
                     }
                     Plot below = greaterPlot.getRelative(Direction.WEST);
                     if (below.isMerged(Direction.NORTHEAST)) {
-                        below.getRelative(Direction.NORTH).plotModificationManager.removeRoadSouthEast(queue);
+                        below.getRelative(Direction.NORTH).getPlotModificationManager().removeRoadSouthEast(queue);
                     }
                 }
             }
@@ -2723,9 +2779,9 @@ public class Plot {
                     //lesserPlot.removeSign();
                     Plot diagonal = greaterPlot.getRelative(Direction.SOUTH);
                     if (diagonal.isMerged(Direction.NORTHWEST)) {
-                        lesserPlot.plotModificationManager.removeRoadSouthEast(queue);
+                        lesserPlot.getPlotModificationManager().removeRoadSouthEast(queue);
                     }
-                    lesserPlot.plotModificationManager.removeRoadEast(queue);
+                    lesserPlot.getPlotModificationManager().removeRoadEast(queue);
                 }
                 Plot below = greaterPlot.getRelative(Direction.NORTH);
                 if (below.isMerged(Direction.SOUTHWEST)) {
@@ -3008,6 +3064,9 @@ public class Plot {
      * @return Plot comment container
      */
     public @NonNull PlotCommentContainer getPlotCommentContainer() {
+        if (this.plotCommentContainer == null) {
+            this.plotCommentContainer = new PlotCommentContainer(this);
+        }
         return this.plotCommentContainer;
     }
 
@@ -3017,7 +3076,14 @@ public class Plot {
      * @return Plot modification manager
      */
     public @NonNull PlotModificationManager getPlotModificationManager() {
+        if (this.plotModificationManager == null) {
+            this.plotModificationManager = new PlotModificationManager(this);
+        }
         return this.plotModificationManager;
     }
 
+    private record CachedRegions(@Nullable Set<Plot> connectedPlots, @NonNull CuboidRegionSet regions) {
+
+    }
+
 }
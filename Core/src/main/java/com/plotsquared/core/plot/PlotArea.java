@@ -21,6 +21,7 @@ package com.plotsquared.core.plot;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
+import com.intellectualsites.annotations.NotPublic;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.collection.QuadMap;
 import com.plotsquared.core.configuration.ConfigurationNode;
@@ -29,6 +30,7 @@ import com.plotsquared.core.configuration.ConfigurationUtil;
 import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.configuration.file.YamlConfiguration;
+import com.plotsquared.core.database.DBFunc;
 import com.plotsquared.core.generator.GridPlotWorld;
 import com.plotsquared.core.generator.IndependentPlotGenerator;
 import com.plotsquared.core.inject.annotations.WorldConfig;
@@ -100,6 +102,15 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     protected final ConcurrentHashMap<PlotId, Plot> plots = new ConcurrentHashMap<>();
+    /**
+     * Secondary index of {@link #plots}, grouping the claimed plots by {@link Plot#getOwnerAbs()}.
+     * Kept in sync by the add/remove methods of this class and {@link Plot#setOwnerAbs(UUID)}.
+     */
+    private final ConcurrentHashMap<UUID, Map<PlotId, Plot>> plotsByOwner = new ConcurrentHashMap<>();
+    /**
+     * The players currently in each plot of this area, as tracked by their last plot metadata.
+     */
+    private final ConcurrentHashMap<PlotId, Set<PlotPlayer<?>>> occupants = new ConcurrentHashMap<>();
     @NonNull
     private final String worldName;
     private final String id;
@@ -635,6 +646,18 @@ public abstract class PlotArea implements ComponentLike {
         return this.plots.get(id);
     }
 
+    /**
+     * Get the claimed plot with the given id coordinates, ignoring merged plots. Unlike
+     * {@link #getPlotAbs(PlotId)}, this never creates a new plot instance.
+     *
+     * @param x the x-coordinate of the plot id
+     * @param y the y-coordinate of the plot id
+     * @return the claimed plot, or {@code null}
+     */
+    public @Nullable Plot getOwnedPlotAbs(final int x, final int y) {
+        return this.plots.get(PlotId.of(x, y));
+    }
+
     public @Nullable Plot getOwnedPlot(final @NonNull PlotId id) {
         Plot plot = this.plots.get(id);
         return plot == null ? null : plot.getBasePlot(false);
@@ -694,18 +717,23 @@ public abstract class PlotArea implements ComponentLike {
         if (uuid == null) {
             return Collections.emptySet();
         }
-        final HashSet<Plot> myPlots = new HashSet<>();
-        forEachPlotAbs(value -> {
-            if (uuid.equals(value.getOwnerAbs())) {
-                myPlots.add(value);
-            }
-        });
-        return myPlots;
+        return new HashSet<>(getOwnedPlotsAbs(uuid));
     }
 
     public @NonNull Set<Plot> getPlots(final @NonNull UUID uuid) {
-        return getPlots().stream().filter(plot -> plot.isBasePlot() && plot.isOwner(uuid))
-                .collect(ImmutableSet.toImmutableSet());
+        if (DBFunc.SERVER.equals(uuid)) {
+            // Server plots are resolved through the ServerPlotFlag, which the owner index does not cover
+            return getPlots().stream().filter(plot -> plot.isBasePlot() && plot.isOwner(uuid))
+                    .collect(ImmutableSet.toImmutableSet());
+        }
+        final ImmutableSet.Builder<Plot> myPlots = ImmutableSet.builder();
+        for (final Plot plot : getOwnedPlotsAbs(uuid)) {
+            final Plot base = this.plots.get(plot.getBasePlot(false).getId());
+            if (base != null && base.isBasePlot() && base.isOwner(uuid)) {
+                myPlots.add(base);
+            }
+        }
+        return myPlots.build();
     }
 
     /**
@@ -719,9 +747,9 @@ public abstract class PlotArea implements ComponentLike {
 
     public int getPlotCount(final @NonNull UUID uuid) {
         if (!Settings.Done.COUNTS_TOWARDS_LIMIT) {
-            return (int) getPlotsAbs(uuid).stream().filter(plot -> !DoneFlag.isDone(plot)).count();
+            return (int) getOwnedPlotsAbs(uuid).stream().filter(plot -> !DoneFlag.isDone(plot)).count();
         }
-        return getPlotsAbs(uuid).size();
+        return getOwnedPlotsAbs(uuid).size();
     }
 
     /**
@@ -739,7 +767,10 @@ public abstract class PlotArea implements ComponentLike {
     //todo check if this method is needed in this class
 
     public boolean hasPlot(final @NonNull UUID uuid) {
-        return this.plots.entrySet().stream().anyMatch(entry -> entry.getValue().isOwner(uuid));
+        if (DBFunc.SERVER.equals(uuid)) {
+            return this.plots.entrySet().stream().anyMatch(entry -> entry.getValue().isOwner(uuid));
+        }
+        return getOwnedPlotsAbs(uuid).stream().anyMatch(plot -> plot.isOwner(uuid));
     }
 
     public int getPlotCount(final @Nullable PlotPlayer<?> player) {
@@ -848,12 +879,6 @@ public abstract class PlotArea implements ComponentLike {
         return myPlots;
     }
 
-    private void forEachPlotAbs(Consumer<Plot> run) {
-        for (final Entry<PlotId, Plot> entry : this.plots.entrySet()) {
-            run.accept(entry.getValue());
-        }
-    }
-
     public void forEachBasePlot(Consumer<Plot> run) {
         for (final Plot plot : getPlots()) {
             if (plot.isBasePlot()) {
@@ -885,7 +910,7 @@ public abstract class PlotArea implements ComponentLike {
                 metaDataAccess.set(plot);
             }
         }
-        return this.plots.put(plot.getId(), plot) == null;
+        return putPlot(plot);
     }
 
     public Plot getNextFreePlot(final PlotPlayer<?> player, @Nullable PlotId start) {
@@ -921,6 +946,7 @@ public abstract class PlotArea implements ComponentLike {
 
     public boolean addPlotIfAbsent(final @NonNull Plot plot) {
         if (this.plots.putIfAbsent(plot.getId(), plot) == null) {
+            indexPlot(plot.getId(), plot, plot.getOwnerAbs());
             for (PlotPlayer<?> pp : plot.getPlayersInPlot()) {
                 try (final MetaDataAccess<Plot> metaDataAccess = pp.accessTemporaryMetaData(
                         PlayerMetaDataKeys.TEMPORARY_LAST_PLOT)) {
@@ -933,7 +959,130 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     public boolean addPlotAbs(final @NonNull Plot plot) {
-        return this.plots.put(plot.getId(), plot) == null;
+        return putPlot(plot);
+    }
+
+    private boolean putPlot(final @NonNull Plot plot) {
+        final Plot previous = this.plots.put(plot.getId(), plot);
+        if (previous != plot) {
+            if (previous != null) {
+                unindexPlot(plot.getId(), previous, previous.getOwnerAbs());
+            }
+            indexPlot(plot.getId(), plot, plot.getOwnerAbs());
+        }
+        return previous == null;
+    }
+
+    /**
+     * Get the claimed plots in this area that are owned by the given UUID, as stored in the database.
+     *
+     * @param uuid owner to get the plots of
+     * @return a live view of the owned plots, or an empty collection
+     */
+    private @NonNull Collection<Plot> getOwnedPlotsAbs(final @NonNull UUID uuid) {
+        final Map<PlotId, Plot> owned = this.plotsByOwner.get(uuid);
+        return owned == null ? Collections.emptySet() : owned.values();
+    }
+
+    private void indexPlot(final @NonNull PlotId id, final @NonNull Plot plot, final @Nullable UUID owner) {
+        if (owner == null) {
+            return;
+        }
+        final boolean[] added = new boolean[1];
+        this.plotsByOwner.compute(owner, (key, owned) -> {
+            if (owned == null) {
+                owned = new ConcurrentHashMap<>();
+            }
+            // Replacing the entry of the same id does not change how many plots the owner has
+            added[0] = owned.put(id, plot) == null;
+            return owned;
+        });
+        if (added[0]) {
+            updateOwnerPlotCount(owner, plot, 1);
+        }
+    }
+
+    private void unindexPlot(final @NonNull PlotId id, final @NonNull Plot plot, final @Nullable UUID owner) {
+        if (owner == null) {
+            return;
+        }
+        final boolean[] removed = new boolean[1];
+        this.plotsByOwner.computeIfPresent(owner, (key, owned) -> {
+            removed[0] = owned.remove(id, plot);
+            return owned.isEmpty() ? null : owned;
+        });
+        if (removed[0]) {
+            updateOwnerPlotCount(owner, plot, -1);
+        }
+    }
+
+    private void updateOwnerPlotCount(final @NonNull UUID owner, final @NonNull Plot plot, final int delta) {
+        final PlotPlayer<?> player = PlotSquared.platform().playerManager().getPlayerIfExists(owner);
+        if (player != null) {
+            player.updatePlotCount(this, delta, DoneFlag.isDone(plot));
+        }
+    }
+
+    /**
+     * Called by {@link Plot#setOwnerAbs(UUID)} to move a claimed plot to its new owner in the owner index.
+     *
+     * @param plot     plot whose owner changed
+     * @param previous the previous owner
+     */
+    void updatePlotOwner(final @NonNull Plot plot, final @Nullable UUID previous) {
+        final PlotId id = plot.getId();
+        if (this.plots.get(id) != plot) {
+            return;
+        }
+        unindexPlot(id, plot, previous);
+        indexPlot(id, plot, plot.getOwnerAbs());
+    }
+
+    /**
+     * Called by {@link Plot} when its {@link DoneFlag} changed, as that affects the plot count of its owner.
+     *
+     * @param plot plot whose done state changed
+     */
+    void updatePlotDone(final @NonNull Plot plot) {
+        final UUID owner = plot.getOwnerAbs();
+        if (owner == null || this.plots.get(plot.getId()) != plot) {
+            return;
+        }
+        final PlotPlayer<?> player = PlotSquared.platform().playerManager().getPlayerIfExists(owner);
+        if (player != null) {
+            player.invalidatePlotCount(this);
+        }
+    }
+
+    /**
+     * Get the players currently in the plot with the given id.
+     *
+     * @param id plot id
+     * @return the players in the plot
+     * @since TODO
+     */
+    public @NonNull List<PlotPlayer<?>> getPlayersInPlot(final @NonNull PlotId id) {
+        final Set<PlotPlayer<?>> players = this.occupants.get(id);
+        return players == null ? new ArrayList<>() : new ArrayList<>(players);
+    }
+
+    /**
+     * Called by {@link PlotPlayer} when the plot it is in changes. This method is not part of the API.
+     *
+     * @param id     plot id
+     * @param player player that entered or left the plot
+     * @param inside whether the player entered the plot
+     */
+    @NotPublic
+    public void updateOccupant(final @NonNull PlotId id, final @NonNull PlotPlayer<?> player, final boolean inside) {
+        if (inside) {
+            this.occupants.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(player);
+        } else {
+            this.occupants.computeIfPresent(id, (key, players) -> {
+                players.remove(player);
+                return players.isEmpty() ? null : players;
+            });
+        }
     }
 
     /**
@@ -1043,7 +1192,12 @@ public abstract class PlotArea implements ComponentLike {
     }
 
     public boolean removePlot(final @NonNull PlotId id) {
-        return this.plots.remove(id) != null;
+        final Plot plot = this.plots.remove(id);
+        if (plot == null) {
+            return false;
+        }
+        unindexPlot(id, plot, plot.getOwnerAbs());
+        return true;
     }
 
     /**
@@ -31,6 +31,14 @@ import java.util.NoSuchElementException;
  */
 public final class PlotId {
 
+    /**
+     * Ids within this distance of the origin on both axes are interned by {@link #of(int, int)},
+     * so that repeated location lookups around the center of a plot world do not allocate.
+     */
+    private static final int CACHE_RADIUS = 128;
+    private static final int CACHE_WIDTH = (CACHE_RADIUS << 1) + 1;
+    private static final PlotId[] CACHE = new PlotId[CACHE_WIDTH * CACHE_WIDTH];
+
     private final int x;
     private final int y;
     private final int hash;
@@ -48,14 +56,26 @@ public final class PlotId {
     }
 
     /**
-     * Returns a new PlotId instance with the specified x and y coordinates.
+     * Returns a PlotId instance with the specified x and y coordinates. Ids close to the
+     * origin are cached, so the returned instance may be shared.
      *
      * @param x the x-coordinate of the plot
      * @param y the y-coordinate of the plot
-     * @return a new PlotId instance with the specified x and y coordinates
+     * @return a PlotId instance with the specified x and y coordinates
      */
     public static @NonNull PlotId of(final int x, final int y) {
-        return new PlotId(x, y);
+        final int cx = x + CACHE_RADIUS;
+        final int cy = y + CACHE_RADIUS;
+        if (cx < 0 || cx >= CACHE_WIDTH || cy < 0 || cy >= CACHE_WIDTH) {
+            return new PlotId(x, y);
+        }
+        final int index = cx * CACHE_WIDTH + cy;
+        PlotId id = CACHE[index];
+        if (id == null) {
+            // Racing threads may both create an instance, which is harmless as ids are immutable
+            CACHE[index] = id = new PlotId(x, y);
+        }
+        return id;
     }
 
     /**
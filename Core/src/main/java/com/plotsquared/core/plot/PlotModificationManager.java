@@ -37,6 +37,7 @@ import com.plotsquared.core.location.Direction;
 import com.plotsquared.core.location.Location;
 import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.flag.PlotFlag;
+import com.plotsquared.core.queue.ChunkCoordinator;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.task.TaskManager;
 import com.plotsquared.core.util.task.TaskTime;
@@ -656,8 +657,11 @@ public final class PlotModificationManager {
                 }
             }
         }
-        if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-            queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+        if (actor != null) {
+            queue.setPriority(ChunkCoordinator.Priority.HIGH);
+            if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            }
         }
         if (queue.size() > 0) {
             queue.enqueue();
@@ -20,6 +20,7 @@ package com.plotsquared.core.plot.expiration;
 
 import com.google.inject.Inject;
 import com.plotsquared.core.PlotSquared;
+import com.plotsquared.core.configuration.Settings;
 import com.plotsquared.core.configuration.caption.Caption;
 import com.plotsquared.core.configuration.caption.TranslatableCaption;
 import com.plotsquared.core.database.DBFunc;
@@ -47,26 +48,48 @@ import com.plotsquared.core.util.task.TaskTime;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.tag.Tag;
 import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 public class ExpireManager {
 
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + ExpireManager.class.getSimpleName());
+
     private final ConcurrentHashMap<UUID, Long> dates_cache;
     private final ConcurrentHashMap<UUID, Long> account_age_cache;
     private final EventDispatcher eventDispatcher;
     private final ArrayDeque<ExpiryTask> tasks;
     private volatile HashSet<Plot> plotsToDelete;
+    /**
+     * Sweep keys of the plots handed to the expired task for confirmation during the current sweep, saved with the
+     * checkpoint so they are not lost on restart
+     */
+    private final Set<String> sweepConfirmations = ConcurrentHashMap.newKeySet();
     /**
      * 0 = stopped, 1 = stopping, 2 = running
      */
@@ -292,99 +315,277 @@ public class ExpireManager {
             return false;
         }
         this.running = 2;
-        TaskManager.runTaskAsync(new Runnable() {
-            private ConcurrentLinkedDeque<Plot> plots = null;
+        TaskManager.runTaskAsync(() -> startSweep(expiredTask));
+        return true;
+    }
 
-            @Override
-            public void run() {
-                final Runnable task = this;
-                if (ExpireManager.this.running != 2) {
-                    ExpireManager.this.running = 0;
-                    return;
-                }
-                if (plots == null) {
-                    plots = new ConcurrentLinkedDeque<>(PlotQuery.newQuery().allPlots().asList());
+    private void startSweep(final RunnableVal3<Plot, Runnable, Boolean> expiredTask) {
+        if (this.running != 2) {
+            this.running = 0;
+            return;
+        }
+        final SweepCheckpoint checkpoint = readCheckpoint();
+        this.sweepConfirmations.clear();
+        final List<Plot> plots = new ArrayList<>();
+        for (Plot plot : PlotQuery.newQuery().allPlots().asList()) {
+            final String key = getSweepKey(plot);
+            // Plots awaiting confirmation only live in memory, so they are swept again when resuming
+            if (checkpoint == null || key.compareTo(checkpoint.cursor()) > 0 || checkpoint.confirmations().contains(key)) {
+                plots.add(plot);
+            }
+        }
+        plots.sort(Comparator.comparing(ExpireManager::getSweepKey));
+        if (checkpoint != null) {
+            LOGGER.info("Resuming expiry sweep after plot {} ({} plots remaining)", checkpoint.cursor(), plots.size());
+        }
+        final ForkJoinPool pool = new ForkJoinPool(Math.max(1, Settings.Expiry_Sweep.THREADS));
+        sweepBatch(expiredTask, plots, 0, pool, System.currentTimeMillis());
+    }
+
+    /**
+     * Sweep the next batch of plots. The cheap expiry criteria are evaluated in parallel, after which only the candidates
+     * are analysed and handed to the expired task. Progress is checkpointed once the whole batch has been handled.
+     */
+    private void sweepBatch(
+            final RunnableVal3<Plot, Runnable, Boolean> expiredTask, final List<Plot> plots, final int offset,
+            final ForkJoinPool pool, final long start
+    ) {
+        if (this.running != 2) {
+            pool.shutdown();
+            this.running = 0;
+            return;
+        }
+        if (offset >= plots.size()) {
+            pool.shutdown();
+            deleteCheckpoint();
+            LOGGER.info("Expiry sweep of {} plots finished in {}s", plots.size(),
+                    (System.currentTimeMillis() - start) / 1000
+            );
+            this.running = 3;
+            TaskManager.runTaskLater(() -> {
+                if (this.running == 3) {
+                    this.running = 0;
+                    runTask(expiredTask);
                 }
-                while (!plots.isEmpty()) {
-                    if (ExpireManager.this.running != 2) {
-                        ExpireManager.this.running = 0;
+            }, TaskTime.ticks(86400000L));
+            return;
+        }
+        final List<Plot> batch = plots.subList(offset, Math.min(plots.size(), offset + Math.max(1,
+                Settings.Expiry_Sweep.BATCH_SIZE
+        )));
+        final ConcurrentLinkedDeque<Map.Entry<Plot, Collection<ExpiryTask>>> candidates;
+        try {
+            candidates = pool.submit(() -> batch.parallelStream().map(plot -> {
+                final Plot newPlot = plot.getArea().getPlot(plot.getId());
+                return Map.entry(newPlot, isExpired(new ArrayDeque<>(tasks), newPlot));
+            }).filter(entry -> !entry.getValue().isEmpty()).collect(Collectors.toCollection(ConcurrentLinkedDeque::new))).get();
+        } catch (InterruptedException | ExecutionException e) {
+            LOGGER.error("Failed to evaluate the expiry of {} plots, retrying later", batch.size(), e);
+            TaskManager.runTaskLaterAsync(() -> sweepBatch(expiredTask, plots, offset, pool, start), TaskTime.seconds(10L));
+            return;
+        }
+        final int workers = Math.max(1, Math.min(Settings.Expiry_Sweep.CONCURRENT_CANDIDATES, candidates.size()));
+        final AtomicInteger remainingWorkers = new AtomicInteger(workers);
+        final Runnable batchDone = () -> {
+            if (this.running == 2) {
+                final int done = offset + batch.size();
+                writeCheckpoint(getSweepKey(batch.get(batch.size() - 1)), this.sweepConfirmations);
+                final long elapsed = Math.max(1, System.currentTimeMillis() - start);
+                final double perSecond = done * 1000D / elapsed;
+                LOGGER.info(
+                        "Expiry sweep: {}/{} plots ({} plots/s, ETA {}s)",
+                        done,
+                        plots.size(),
+                        String.format("%.1f", perSecond),
+                        (long) ((plots.size() - done) / perSecond)
+                );
+            }
+            TaskManager.runTaskLaterAsync(
+                    () -> sweepBatch(expiredTask, plots, offset + batch.size(), pool, start),
+                    TaskTime.ticks(1L)
+            );
+        };
+        for (int i = 0; i < workers; i++) {
+            TaskManager.runTaskAsync(new Runnable() {
+                @Override
+                public void run() {
+                    final Map.Entry<Plot, Collection<ExpiryTask>> candidate;
+                    if (ExpireManager.this.running != 2 || (candidate = candidates.poll()) == null) {
+                        if (remainingWorkers.decrementAndGet() == 0) {
+                            batchDone.run();
+                        }
                         return;
                     }
-                    Plot plot = plots.poll();
-                    PlotArea area = plot.getArea();
-                    final Plot newPlot = area.getPlot(plot.getId());
-                    final ArrayDeque<ExpiryTask> applicable = new ArrayDeque<>(tasks);
-                    final Collection<ExpiryTask> expired = isExpired(applicable, newPlot);
-                    if (expired.isEmpty()) {
-                        continue;
+                    handleCandidate(candidate.getKey(), candidate.getValue(), expiredTask,
+                            () -> TaskManager.runTaskLaterAsync(this, TaskTime.ticks(1L))
+                    );
+                }
+            });
+        }
+    }
+
+    private void handleCandidate(
+            final Plot plot, final Collection<ExpiryTask> expired,
+            final RunnableVal3<Plot, Runnable, Boolean> expiredTask, final Runnable next
+    ) {
+        // The expired task may modify state shared with the main thread (e.g. the pending plots)
+        final RunnableVal<Boolean> expire = new RunnableVal<>() {
+            @Override
+            public void run(Boolean confirmation) {
+                TaskManager.runTask(() -> {
+                    // The owner may have returned or the plot may have been kept since the batch was evaluated
+                    final Plot current = plot.getArea().getPlot(plot.getId());
+                    if (current == null || !current.hasOwner() || isExpired(new ArrayDeque<>(tasks), current).isEmpty()) {
+                        next.run();
+                        return;
                     }
-                    for (ExpiryTask expiryTask : expired) {
-                        if (!expiryTask.needsAnalysis()) {
-                            expiredTask.run(newPlot, () -> TaskManager.getPlatformImplementation()
-                                            .taskLaterAsync(task, TaskTime.ticks(1L)),
-                                    expiryTask.requiresConfirmation()
-                            );
-                            return;
-                        }
+                    if (confirmation) {
+                        ExpireManager.this.sweepConfirmations.add(getSweepKey(current));
                     }
-                    final RunnableVal<PlotAnalysis> handleAnalysis =
-                            new RunnableVal<>() {
-                                @Override
-                                public void run(final PlotAnalysis changed) {
-                                    passesComplexity(changed, expired, new RunnableVal<>() {
-                                        @Override
-                                        public void run(Boolean confirmation) {
-                                            expiredTask.run(
-                                                    newPlot,
-                                                    () -> TaskManager
-                                                            .getPlatformImplementation()
-                                                            .taskLaterAsync(task, TaskTime.ticks(1L)),
-                                                    confirmation
-                                            );
-                                        }
-                                    }, () -> {
-                                        PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance()
-                                                .getFlag(AnalysisFlag.class)
-                                                .createFlagInstance(changed.asList());
-                                        PlotFlagAddEvent event =
-                                                eventDispatcher.callFlagAdd(plotFlag, plot);
-                                        if (event.getEventResult() == Result.DENY) {
-                                            return;
-                                        }
-                                        newPlot.setFlag(event.getFlag());
-                                        TaskManager.runTaskLaterAsync(task, TaskTime.seconds(1L));
-                                    });
-                                }
-                            };
-                    final Runnable doAnalysis =
-                            () -> PlotSquared.platform().hybridUtils().analyzePlot(newPlot, handleAnalysis);
-
-                    PlotAnalysis analysis = newPlot.getComplexity(null);
-                    if (analysis != null) {
-                        passesComplexity(analysis, expired, new RunnableVal<>() {
+                    expiredTask.run(current, next, confirmation);
+                });
+            }
+        };
+        for (ExpiryTask expiryTask : expired) {
+            if (!expiryTask.needsAnalysis() || plot.getArea().getType() != PlotAreaType.NORMAL) {
+                expire.run(expiryTask.requiresConfirmation());
+                return;
+            }
+        }
+        final int fingerprint = getModificationFingerprint(plot);
+        final RunnableVal<PlotAnalysis> handleAnalysis =
+                new RunnableVal<>() {
+                    @Override
+                    public void run(final PlotAnalysis changed) {
+                        changed.fingerprint = fingerprint;
+                        passesComplexity(changed, expired, new RunnableVal<>() {
                             @Override
-                            public void run(Boolean value) {
-                                doAnalysis.run();
+                            public void run(Boolean confirmation) {
+                                if (confirmation) {
+                                    storeAnalysis(plot, changed);
+                                }
+                                expire.run(confirmation);
                             }
-                        }, () -> TaskManager.getPlatformImplementation().taskLaterAsync(task, TaskTime.ticks(1L)));
-                    } else {
-                        doAnalysis.run();
+                        }, () -> {
+                            storeAnalysis(plot, changed);
+                            next.run();
+                        });
                     }
-                    return;
+                };
+        final Runnable doAnalysis =
+                () -> PlotSquared.platform().hybridUtils().analyzePlot(plot, handleAnalysis);
+
+        PlotAnalysis analysis = plot.getComplexity(null);
+        if (analysis != null && fingerprint != 0 && analysis.fingerprint == fingerprint) {
+            // Nobody able to build has been online since the analysis was stored, so it is still accurate
+            passesComplexity(analysis, expired, expire, next);
+        } else if (analysis != null) {
+            passesComplexity(analysis, expired, new RunnableVal<>() {
+                @Override
+                public void run(Boolean value) {
+                    doAnalysis.run();
                 }
-                if (plots.isEmpty()) {
-                    ExpireManager.this.running = 3;
-                    TaskManager.runTaskLater(() -> {
-                        if (ExpireManager.this.running == 3) {
-                            ExpireManager.this.running = 2;
-                            runTask(expiredTask);
-                        }
-                    }, TaskTime.ticks(86400000L));
-                } else {
-                    TaskManager.runTaskLaterAsync(task, TaskTime.seconds(10L));
+            }, next);
+        } else {
+            doAnalysis.run();
+        }
+    }
+
+    private static String getSweepKey(Plot plot) {
+        return plot.getArea() + ";" + plot.getId();
+    }
+
+    private static File getCheckpointFile() {
+        return new File(PlotSquared.platform().getDirectory(), "expiry-sweep.txt");
+    }
+
+    /**
+     * Read the checkpoint, which holds the sweep key of the last handled plot on the first line, followed by the sweep
+     * keys of the plots that were awaiting confirmation.
+     */
+    private static @Nullable SweepCheckpoint readCheckpoint() {
+        final File file = getCheckpointFile();
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            final List<String> lines = new ArrayList<>();
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    lines.add(line.trim());
                 }
             }
-        });
+            if (lines.isEmpty()) {
+                return null;
+            }
+            return new SweepCheckpoint(lines.get(0), new HashSet<>(lines.subList(1, lines.size())));
+        } catch (IOException e) {
+            LOGGER.warn("Failed to read the expiry sweep checkpoint, starting from the beginning", e);
+            return null;
+        }
+    }
+
+    private static void writeCheckpoint(String cursor, Collection<String> confirmations) {
+        final List<String> lines = new ArrayList<>(confirmations.size() + 1);
+        lines.add(cursor);
+        lines.addAll(confirmations);
+        try {
+            Files.write(getCheckpointFile().toPath(), lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to save the expiry sweep checkpoint", e);
+        }
+    }
+
+    private static void deleteCheckpoint() {
+        try {
+            Files.deleteIfExists(getCheckpointFile().toPath());
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete the expiry sweep checkpoint", e);
+        }
+    }
+
+    /**
+     * Get a fingerprint of the modification state of a plot, derived from the last time any player able to build in it
+     * was online. As long as the fingerprint stays the same, a stored {@link PlotAnalysis} of the plot remains valid.
+     *
+     * @param plot the plot to fingerprint
+     * @return the fingerprint, or {@code 0} if the state cannot be determined (e.g. a builder is currently online)
+     * @since TODO
+     */
+    public int getModificationFingerprint(Plot plot) {
+        if (!plot.hasOwner() || plot.getRunning() > 0) {
+            return 0;
+        }
+        long last = 0;
+        final Set<UUID> builders = new HashSet<>(plot.getOwners());
+        builders.addAll(plot.getTrusted());
+        for (UUID uuid : builders) {
+            if (DBFunc.EVERYONE.equals(uuid) || PlotSquared.platform().playerManager().getPlayerIfExists(uuid) != null) {
+                return 0;
+            }
+            long age = getAge(uuid, false);
+            if (age == 0) {
+                // Unknown or still online
+                return 0;
+            }
+            last = Math.max(last, getTimestamp(uuid));
+        }
+        if (last == 0) {
+            return 0;
+        }
+        final int fingerprint = Long.hashCode(last) * 31 + builders.hashCode();
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private boolean storeAnalysis(Plot plot, PlotAnalysis analysis) {
+        PlotFlag<?, ?> plotFlag = GlobalFlagContainer.getInstance()
+                .getFlag(AnalysisFlag.class)
+                .createFlagInstance(analysis.asList());
+        PlotFlagAddEvent event = eventDispatcher.callFlagAdd(plotFlag, plot);
+        if (event.getEventResult() == Result.DENY) {
+            return false;
+        }
+        plot.setFlag(event.getFlag());
         return true;
     }
 
@@ -496,4 +697,11 @@ public class ExpireManager {
         return min;
     }
 
+    private record SweepCheckpoint(
+            String cursor,
+            Set<String> confirmations
+    ) {
+
+    }
+
 }
@@ -53,6 +53,13 @@ public class PlotAnalysis {
     public int data_sd;
     public int air_sd;
     public int variety_sd;
+    /**
+     * Fingerprint of the plot's modification state at the time of the analysis, or {@code 0} if unknown.
+     * Used by the {@link ExpireManager} to reuse a persisted analysis while the plot remains unchanged.
+     *
+     * @since TODO
+     */
+    public int fingerprint;
     private int complexity;
 
     public static PlotAnalysis getAnalysis(Plot plot, Settings.Auto_Clear settings) {
@@ -70,6 +77,9 @@ public class PlotAnalysis {
             analysis.data_sd = values.get(7); // 0
             analysis.air_sd = values.get(8); // 18909
             analysis.variety_sd = values.get(9); // 263
+            if (values.size() > 10) {
+                analysis.fingerprint = values.get(10);
+            }
 
             analysis.complexity = settings != null ? analysis.getComplexity(settings) : 0;
             return analysis;
@@ -583,7 +593,7 @@ public class PlotAnalysis {
     public List<Integer> asList() {
         return Arrays
                 .asList(this.changes, this.faces, this.data, this.air, this.variety, this.changes_sd,
-                        this.faces_sd, this.data_sd, this.air_sd, this.variety_sd
+                        this.faces_sd, this.data_sd, this.air_sd, this.variety_sd, this.fingerprint
                 );
     }
 
@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Container type for {@link PlotFlag plot flags}.
@@ -39,13 +40,29 @@ import java.util.Map;
 public class FlagContainer {
 
     private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + FlagContainer.class.getSimpleName());
+    private static final AtomicInteger NEXT_FLAG_ID = new AtomicInteger();
+    // Dense ids used to index resolved flags, assigned when a flag type is first looked up
+    private static final ClassValue<Integer> FLAG_IDS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(final @NonNull Class<?> type) {
+            return NEXT_FLAG_ID.getAndIncrement();
+        }
+    };
+    // Incremented whenever a container that others inherit from changes, to invalidate all resolved flags
+    private static final AtomicInteger RESOLUTION_EPOCH = new AtomicInteger();
+    // Subscribed to every parent container, so its changes are pushed to the flags resolved by its children
+    private static final PlotFlagUpdateHandler INVALIDATE_RESOLUTIONS = (flag, type) -> RESOLUTION_EPOCH.incrementAndGet();
 
-    private final Map<String, String> unknownFlags = new HashMap<>();
-    private final Map<Class<?>, PlotFlag<?, ?>> flagMap = new HashMap<>();
     private final PlotFlagUpdateHandler plotFlagUpdateHandler;
-    private final Collection<PlotFlagUpdateHandler> updateSubscribers = new HashSet<>();
-    private final PlotFlagUpdateHandler unknownsRef;
+    private Map<Class<?>, PlotFlag<?, ?>> flagMap = new HashMap<>();
+    // Whether the flag map is shared with other containers, and has to be copied before it is changed
+    private boolean sharedFlagMap;
+    // Most containers never see unknown flags or subscribers, so these are only created when needed
+    private Map<String, String> unknownFlags;
+    private Collection<PlotFlagUpdateHandler> updateSubscribers;
+    private PlotFlagUpdateHandler unknownsRef;
     private FlagContainer parentContainer;
+    private FlagResolution resolution;
 
     /**
      * Construct a new flag container with an optional parent container and update handler.
@@ -65,11 +82,8 @@ public class FlagContainer {
     ) {
         this.parentContainer = parentContainer;
         this.plotFlagUpdateHandler = plotFlagUpdateHandler;
-        if (!(this instanceof GlobalFlagContainer)) {
-            this.unknownsRef = this::handleUnknowns;
-            GlobalFlagContainer.getInstance().subscribe(this.unknownsRef);
-        } else {
-            this.unknownsRef = null;
+        if (parentContainer != null) {
+            parentContainer.subscribeChild();
         }
     }
 
@@ -115,13 +129,45 @@ public class FlagContainer {
 
     public void setParentContainer(FlagContainer parentContainer) {
         this.parentContainer = parentContainer;
+        this.resolution = null;
+        if (parentContainer != null) {
+            parentContainer.subscribeChild();
+        }
+    }
+
+    private void subscribeChild() {
+        // Only subscribed once, so the subscribers are not modified again while other threads read flags
+        if (this.updateSubscribers == null || !this.updateSubscribers.contains(INVALIDATE_RESOLUTIONS)) {
+            this.subscribe(INVALIDATE_RESOLUTIONS);
+        }
     }
 
     @SuppressWarnings("unused")
     protected Map<Class<?>, PlotFlag<?, ?>> getInternalPlotFlagMap() {
+        return this.getMutableFlagMap();
+    }
+
+    private Map<Class<?>, PlotFlag<?, ?>> getMutableFlagMap() {
+        if (this.sharedFlagMap) {
+            this.flagMap = new HashMap<>(this.flagMap);
+            this.sharedFlagMap = false;
+        }
         return this.flagMap;
     }
 
+    /**
+     * Share the flag map of this container with all other containers holding the same flags.
+     * The map is copied again once this container is modified. This method is not part of the API.
+     *
+     * @param flagMaps the flag maps to share, by themselves. Maps added to it must not be modified anymore
+     * @since TODO
+     */
+    @NotPublic
+    public void internFlagMap(final @NonNull Map<Map<Class<?>, PlotFlag<?, ?>>, Map<Class<?>, PlotFlag<?, ?>>> flagMaps) {
+        this.flagMap = flagMaps.computeIfAbsent(this.flagMap, map -> map);
+        this.sharedFlagMap = true;
+    }
+
     /**
      * Get an immutable view of the underlying flag map
      *
@@ -148,7 +194,7 @@ public class FlagContainer {
                     flag.getName().length() <= 64,
                     "flag name may not be more than 64 characters. Check: " + flag.getName()
             );
-            final PlotFlag<?, ?> oldInstance = this.flagMap.put(flag.getClass(), flag);
+            final PlotFlag<?, ?> oldInstance = this.getMutableFlagMap().put(flag.getClass(), flag);
             final PlotFlagUpdateType plotFlagUpdateType;
             if (oldInstance != null) {
                 plotFlagUpdateType = PlotFlagUpdateType.FLAG_UPDATED;
@@ -158,8 +204,10 @@ public class FlagContainer {
             if (this.plotFlagUpdateHandler != null) {
                 this.plotFlagUpdateHandler.handle(flag, plotFlagUpdateType);
             }
-            this.updateSubscribers
-                    .forEach(subscriber -> subscriber.handle(flag, plotFlagUpdateType));
+            if (this.updateSubscribers != null) {
+                this.updateSubscribers
+                        .forEach(subscriber -> subscriber.handle(flag, plotFlagUpdateType));
+            }
         } catch (IllegalStateException e) {
             LOGGER.info("Flag {} (class '{}') could not be added to the container because the "
                     + "flag name exceeded the allowed limit of 64 characters. Please tell the developer "
@@ -178,12 +226,14 @@ public class FlagContainer {
      */
     @SuppressWarnings("unchecked")
     public <V, T extends PlotFlag<V, ?>> V removeFlag(final T flag) {
-        final Object value = this.flagMap.remove(flag.getClass());
+        final Object value = this.flagMap.containsKey(flag.getClass()) ? this.getMutableFlagMap().remove(flag.getClass()) : null;
         if (this.plotFlagUpdateHandler != null) {
             this.plotFlagUpdateHandler.handle(flag, PlotFlagUpdateType.FLAG_REMOVED);
         }
-        this.updateSubscribers
-                .forEach(subscriber -> subscriber.handle(flag, PlotFlagUpdateType.FLAG_REMOVED));
+        if (this.updateSubscribers != null) {
+            this.updateSubscribers
+                    .forEach(subscriber -> subscriber.handle(flag, PlotFlagUpdateType.FLAG_REMOVED));
+        }
         if (value == null) {
             return null;
         } else {
@@ -214,7 +264,16 @@ public class FlagContainer {
      * Clears the local flag map
      */
     public void clearLocal() {
-        this.flagMap.clear();
+        if (this.updateSubscribers != null && this.updateSubscribers.contains(INVALIDATE_RESOLUTIONS)) {
+            // Clearing does not notify the subscribers, so invalidate the flags resolved by children here
+            RESOLUTION_EPOCH.incrementAndGet();
+        }
+        if (this.sharedFlagMap) {
+            this.flagMap = new HashMap<>();
+            this.sharedFlagMap = false;
+        } else {
+            this.flagMap.clear();
+        }
     }
 
     /**
@@ -253,7 +312,7 @@ public class FlagContainer {
             return flag;
         } else {
             if (getParentContainer() != null) {
-                return getParentContainer().getFlagErased(flagClass);
+                return this.resolveInherited(flagClass);
             }
         }
         return null;
@@ -275,12 +334,35 @@ public class FlagContainer {
             return castUnsafe(flag);
         } else {
             if (getParentContainer() != null) {
-                return getParentContainer().getFlag(flagClass);
+                return castUnsafe(this.resolveInherited(flagClass));
             }
         }
         return null;
     }
 
+    /**
+     * Look up a flag that is not set locally in the parent containers. Results are remembered
+     * until one of the parents changes, so repeated lookups are a single array load.
+     *
+     * @param flagClass Flag class to query for
+     * @return Flag instance
+     */
+    private PlotFlag<?, ?> resolveInherited(final Class<?> flagClass) {
+        final int id = FLAG_IDS.get(flagClass);
+        final int epoch = RESOLUTION_EPOCH.get();
+        FlagResolution resolution = this.resolution;
+        if (resolution == null || resolution.epoch() != epoch || id >= resolution.flags().length) {
+            resolution = new FlagResolution(epoch, new PlotFlag<?, ?>[Math.max(id + 1, NEXT_FLAG_ID.get())]);
+            this.resolution = resolution;
+        }
+        PlotFlag<?, ?> flag = resolution.flags()[id];
+        if (flag == null) {
+            flag = this.getParentContainer().getFlagErased(flagClass);
+            resolution.flags()[id] = flag;
+        }
+        return flag;
+    }
+
     /**
      * Check for flag existence in this flag container instance.
      *
@@ -310,6 +392,9 @@ public class FlagContainer {
      * @param plotFlagUpdateHandler The update handler which will react to changes.
      */
     public void subscribe(final @NonNull PlotFlagUpdateHandler plotFlagUpdateHandler) {
+        if (this.updateSubscribers == null) {
+            this.updateSubscribers = new HashSet<>();
+        }
         this.updateSubscribers.add(plotFlagUpdateHandler);
     }
 
@@ -317,7 +402,7 @@ public class FlagContainer {
             final PlotFlag<?, ?> flag,
             final PlotFlagUpdateType plotFlagUpdateType
     ) {
-        if (plotFlagUpdateType != PlotFlagUpdateType.FLAG_REMOVED && this.unknownFlags
+        if (plotFlagUpdateType != PlotFlagUpdateType.FLAG_REMOVED && this.unknownFlags != null && this.unknownFlags
                 .containsKey(flag.getName())) {
             String value = this.unknownFlags.remove(flag.getName());
             if (value != null) {
@@ -342,6 +427,14 @@ public class FlagContainer {
      * @param value    Flag value
      */
     public void addUnknownFlag(final String flagName, final String value) {
+        if (this.unknownFlags == null) {
+            this.unknownFlags = new HashMap<>();
+        }
+        if (this.unknownsRef == null && !(this instanceof GlobalFlagContainer)) {
+            // Only containers waiting for an unknown flag need to hear about newly registered flags
+            this.unknownsRef = this::handleUnknowns;
+            GlobalFlagContainer.getInstance().subscribe(this.unknownsRef);
+        }
         this.unknownFlags.put(flagName.toLowerCase(Locale.ENGLISH), value);
     }
 
@@ -358,7 +451,7 @@ public class FlagContainer {
     }
 
     void unsubscribe(final @Nullable PlotFlagUpdateHandler updateHandler) {
-        if (updateHandler != null) {
+        if (updateHandler != null && this.updateSubscribers != null) {
             this.updateSubscribers.remove(updateHandler);
         }
     }
@@ -380,6 +473,16 @@ public class FlagContainer {
         return flagMap.hashCode();
     }
 
+    /**
+     * Flags inherited from the parent containers, indexed by flag id.
+     *
+     * @param epoch the resolution epoch the flags were resolved in
+     * @param flags the resolved flags, {@code null} if not resolved yet
+     */
+    private record FlagResolution(int epoch, PlotFlag<?, ?>[] flags) {
+
+    }
+
     /**
      * Update event types used in {@link PlotFlagUpdateHandler}.
      */
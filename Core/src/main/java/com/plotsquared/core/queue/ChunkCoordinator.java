@@ -18,8 +18,12 @@
  */
 package com.plotsquared.core.queue;
 
+import org.checkerframework.checker.nullness.qual.NonNull;
+
 public abstract class ChunkCoordinator implements Runnable {
 
+    private volatile Priority priority = Priority.NORMAL;
+
     /**
      * Starts the chunk coordinator. This will usually (implementation-specific-permitting) mark chunks to be loaded in batches,
      * then add them to a queue and apply tickets once loaded to prevent unloading. A repeating task will then iterate over loaded
@@ -48,4 +52,67 @@ public abstract class ChunkCoordinator implements Runnable {
      */
     public abstract int getTotalChunks();
 
+    /**
+     * Process loaded chunks, spending roughly no more than the given time. This is called once per tick by the
+     * {@link ChunkCoordinatorScheduler}, which splits the tick time between all running coordinators.
+     *
+     * @param maxTime the time this coordinator may spend in this tick, in milliseconds
+     * @return {@code true} if the coordinator has finished and should not be run again
+     * @since TODO
+     */
+    public boolean run(final long maxTime) {
+        run();
+        return getRemainingChunks() <= 0;
+    }
+
+    /**
+     * Get the priority of the coordinator, used to split tick time between running coordinators
+     *
+     * @return the priority
+     * @since TODO
+     */
+    public @NonNull Priority getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Set the priority of the coordinator, used to split tick time between running coordinators
+     *
+     * @param priority the priority
+     * @since TODO
+     */
+    public void setPriority(final @NonNull Priority priority) {
+        this.priority = priority;
+    }
+
+    /**
+     * The priority of a coordinator. Coordinators with a higher priority are run first and are given a bigger share of the
+     * tick time.
+     *
+     * @since TODO
+     */
+    public enum Priority {
+        /**
+         * Work that a player is waiting on, such as clearing a plot
+         */
+        HIGH(3),
+        /**
+         * Background work
+         */
+        NORMAL(1);
+
+        private final int weight;
+
+        Priority(final int weight) {
+            this.weight = weight;
+        }
+
+        /**
+         * @return the relative share of tick time given to coordinators with this priority
+         */
+        public int getWeight() {
+            return this.weight;
+        }
+    }
+
 }
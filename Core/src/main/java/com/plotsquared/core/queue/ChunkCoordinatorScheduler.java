@@ -0,0 +1,151 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.util.task.PlotSquaredTask;
+import com.plotsquared.core.util.task.TaskManager;
+import com.plotsquared.core.util.task.TaskTime;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Runs all {@link ChunkCoordinator}s from a single repeating task, so that concurrent queues share one per-tick time
+ * budget ({@link Settings.QUEUE#MAX_ITERATION_TIME}) instead of each taking their own. The budget is split between the
+ * running coordinators by {@link ChunkCoordinator.Priority#getWeight() priority weight}, and is lowered while the server
+ * takes longer than 50ms per tick.
+ *
+ * @since TODO
+ */
+@Singleton
+public class ChunkCoordinatorScheduler implements Runnable {
+
+    private static final long TICK_TIME = 50;
+
+    private final Queue<ChunkCoordinator> pending = new ConcurrentLinkedQueue<>();
+    private final List<ChunkCoordinator> running = new ArrayList<>();
+    private volatile List<ChunkCoordinator> snapshot = Collections.emptyList();
+    private PlotSquaredTask task;
+    private long lastTick;
+    private double averageTickTime = TICK_TIME;
+    private int rotation;
+
+    @Inject
+    public ChunkCoordinatorScheduler() {
+    }
+
+    /**
+     * Start running a coordinator from the next tick until it has finished.
+     *
+     * @param coordinator the coordinator to run
+     */
+    public void register(final @NonNull ChunkCoordinator coordinator) {
+        this.pending.add(coordinator);
+        synchronized (this) {
+            if (this.task == null) {
+                this.lastTick = 0;
+                this.task = TaskManager.runTaskRepeat(this, TaskTime.ticks(1));
+            }
+        }
+    }
+
+    /**
+     * Get the coordinators that are currently running. Their progress can be read from
+     * {@link ChunkCoordinator#getRemainingChunks()} and {@link ChunkCoordinator#getTotalChunks()}.
+     *
+     * @return an immutable snapshot of the running coordinators, as of the last tick
+     */
+    public @NonNull List<ChunkCoordinator> getCoordinators() {
+        return this.snapshot;
+    }
+
+    /**
+     * Get the time that is split between the running coordinators in the current tick.
+     *
+     * @return the tick budget in milliseconds
+     */
+    public long getTickBudget() {
+        final long max = Settings.QUEUE.MAX_ITERATION_TIME;
+        final long min = Math.min(Settings.QUEUE.MIN_ITERATION_TIME, max);
+        final long overrun = Math.round(this.averageTickTime) - TICK_TIME;
+        return overrun <= 0 ? max : Math.max(min, max - overrun);
+    }
+
+    @Override
+    public void run() {
+        final long now = System.currentTimeMillis();
+        if (this.lastTick != 0) {
+            this.averageTickTime = this.averageTickTime * 0.9 + (now - this.lastTick) * 0.1;
+        }
+        this.lastTick = now;
+
+        ChunkCoordinator coordinator;
+        while ((coordinator = this.pending.poll()) != null) {
+            this.running.add(coordinator);
+        }
+        if (this.running.isEmpty()) {
+            synchronized (this) {
+                if (this.pending.isEmpty()) {
+                    this.task.cancel();
+                    this.task = null;
+                    this.snapshot = Collections.emptyList();
+                }
+            }
+            return;
+        }
+
+        // Rotate coordinators of the same priority, so that they take turns at using any leftover time
+        Collections.rotate(this.running, -(this.rotation++ % this.running.size()));
+        this.running.sort(Comparator.comparing(ChunkCoordinator::getPriority));
+        int remainingWeight = 0;
+        for (final ChunkCoordinator running : this.running) {
+            remainingWeight += running.getPriority().getWeight();
+        }
+        long remainingTime = getTickBudget();
+        final List<ChunkCoordinator> finished = new ArrayList<>();
+        for (final ChunkCoordinator running : this.running) {
+            final int weight = running.getPriority().getWeight();
+            final long share = Math.max(1, remainingTime * weight / remainingWeight);
+            remainingWeight -= weight;
+            final long start = System.currentTimeMillis();
+            boolean done;
+            try {
+                done = running.run(share);
+            } catch (final Throwable throwable) {
+                throwable.printStackTrace();
+                done = true;
+            }
+            if (done) {
+                finished.add(running);
+            }
+            remainingTime = Math.max(0, remainingTime - (System.currentTimeMillis() - start));
+        }
+        this.running.removeAll(finished);
+        this.snapshot = List.copyOf(this.running);
+    }
+
+}
@@ -51,6 +51,7 @@ public class DelegateQueueCoordinator extends QueueCoordinator {
 
         if (parent != null) {
             this.setForceSync(parent.isForceSync());
+            super.setPriority(parent.getPriority());
         }
     }
 
@@ -205,6 +206,14 @@ public class DelegateQueueCoordinator extends QueueCoordinator {
         return null;
     }
 
+    @Override
+    public void setPriority(ChunkCoordinator.@NonNull Priority priority) {
+        super.setPriority(priority);
+        if (parent != null) {
+            parent.setPriority(priority);
+        }
+    }
+
     @Override
     public void setCompleteTask(Runnable whenDone) {
         if (parent != null) {
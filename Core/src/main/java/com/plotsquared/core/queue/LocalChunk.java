@@ -27,6 +27,7 @@ import com.sk89q.worldedit.util.Location;
 import com.sk89q.worldedit.world.biome.BiomeType;
 import com.sk89q.worldedit.world.block.BaseBlock;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.HashMap;
 
@@ -37,8 +38,8 @@ public class LocalChunk {
     private final int z;
     private final int minSection;
 
-    private final BaseBlock[][] baseblocks;
-    private final BiomeType[][] biomes;
+    private final PalettedSection<BaseBlock>[] baseblocks;
+    private final PalettedSection<BiomeType>[] biomes;
     private final HashMap<BlockVector3, CompoundTag> tiles = new HashMap<>();
     private final HashMap<Location, BaseEntity> entities = new HashMap<>();
 
@@ -48,8 +49,13 @@ public class LocalChunk {
         this.z = z;
         this.minSection = parent.getMinLayer();
         int sections = parent.getMaxLayer() - parent.getMinLayer() + 1;
-        baseblocks = new BaseBlock[sections][];
-        biomes = new BiomeType[sections][];
+        baseblocks = newSections(sections);
+        biomes = newSections(sections);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> PalettedSection<T>[] newSections(final int sections) {
+        return (PalettedSection<T>[]) new PalettedSection[sections];
     }
 
     public @NonNull QueueCoordinator getParent() {
@@ -73,12 +79,97 @@ public class LocalChunk {
         return this.minSection;
     }
 
+    /**
+     * Get a copy of the blocks set in the chunk, per section.
+     *
+     * @deprecated Blocks are stored compressed, so this copies every section. Use {@link #getBlock(int, int)} instead.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     public @NonNull BaseBlock[][] getBaseblocks() {
-        return this.baseblocks;
+        final BaseBlock[][] copy = new BaseBlock[this.baseblocks.length][];
+        for (int i = 0; i < copy.length; i++) {
+            if (hasBlocks(i)) {
+                copy[i] = new BaseBlock[4096];
+                for (int j = 0; j < 4096; j++) {
+                    copy[i][j] = getBlock(i, j);
+                }
+            }
+        }
+        return copy;
     }
 
+    /**
+     * Get a copy of the biomes set in the chunk, per section.
+     *
+     * @deprecated Biomes are stored compressed, so this copies every section. Use {@link #getBiome(int, int)} instead.
+     */
+    @Deprecated(forRemoval = true, since = "TODO")
     public @NonNull BiomeType[][] getBiomes() {
-        return this.biomes;
+        final BiomeType[][] copy = new BiomeType[this.biomes.length][];
+        for (int i = 0; i < copy.length; i++) {
+            if (hasBiomes(i)) {
+                copy[i] = new BiomeType[4096];
+                for (int j = 0; j < 4096; j++) {
+                    copy[i][j] = getBiome(i, j);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Get the number of sections in the chunk.
+     *
+     * @since TODO
+     */
+    public int getSectionCount() {
+        return this.baseblocks.length;
+    }
+
+    /**
+     * Get if any block has been set in a section.
+     *
+     * @param layerIndex the section index, counting from {@link #getMinSection()}
+     * @since TODO
+     */
+    public boolean hasBlocks(final int layerIndex) {
+        return this.baseblocks[layerIndex] != null;
+    }
+
+    /**
+     * Get the block set at a position in a section.
+     *
+     * @param layerIndex the section index, counting from {@link #getMinSection()}
+     * @param j          the position in the section, see {@link ChunkUtil#getJ(int, int, int)}
+     * @return the block, or {@code null} if none was set
+     * @since TODO
+     */
+    public @Nullable BaseBlock getBlock(final int layerIndex, final int j) {
+        final PalettedSection<BaseBlock> section = this.baseblocks[layerIndex];
+        return section == null ? null : section.get(j);
+    }
+
+    /**
+     * Get if any biome has been set in a section.
+     *
+     * @param layerIndex the section index, counting from {@link #getMinSection()}
+     * @since TODO
+     */
+    public boolean hasBiomes(final int layerIndex) {
+        return this.biomes[layerIndex] != null;
+    }
+
+    /**
+     * Get the biome set at a position in a section.
+     *
+     * @param layerIndex the section index, counting from {@link #getMinSection()}
+     * @param j          the position in the section, see {@link ChunkUtil#getJ(int, int, int)}
+     * @return the biome, or {@code null} if none was set
+     * @since TODO
+     */
+    public @Nullable BiomeType getBiome(final int layerIndex, final int j) {
+        final PalettedSection<BiomeType> section = this.biomes[layerIndex];
+        return section == null ? null : section.get(j);
     }
 
     public @NonNull HashMap<BlockVector3, CompoundTag> getTiles() {
@@ -88,11 +179,11 @@ public class LocalChunk {
     public void setBiome(final int x, final int y, final int z, final @NonNull BiomeType biomeType) {
         final int i = getLayerIndex(y);
         final int j = ChunkUtil.getJ(x, y, z);
-        BiomeType[] array = this.biomes[i];
-        if (array == null) {
-            array = this.biomes[i] = new BiomeType[4096];
+        PalettedSection<BiomeType> section = this.biomes[i];
+        if (section == null) {
+            section = this.biomes[i] = new PalettedSection<>();
         }
-        array[j] = biomeType;
+        section.set(j, biomeType);
     }
 
     @Override
@@ -103,11 +194,11 @@ public class LocalChunk {
     public void setBlock(final int x, final int y, final int z, final @NonNull BaseBlock baseBlock) {
         final int i = getLayerIndex(y);
         final int j = ChunkUtil.getJ(x, y, z);
-        BaseBlock[] array = baseblocks[i];
-        if (array == null) {
-            array = (baseblocks[i] = new BaseBlock[4096]);
+        PalettedSection<BaseBlock> section = baseblocks[i];
+        if (section == null) {
+            section = (baseblocks[i] = new PalettedSection<>());
         }
-        array[j] = baseBlock;
+        section.set(j, baseBlock);
     }
 
     public void setTile(final int x, final int y, final int z, final @NonNull CompoundTag tag) {
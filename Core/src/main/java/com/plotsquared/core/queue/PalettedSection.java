@@ -0,0 +1,110 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A 16x16x16 section of values stored as bit-packed indices into a palette of the distinct values in the section. Index 0
+ * of the palette is reserved for positions that have not been set. Indices start at 4 bits each and are widened to 8 and 16
+ * bits when the palette outgrows them, so a section of a few distinct blocks takes 2KB instead of one reference per
+ * position.
+ *
+ * @param <T> value type
+ */
+final class PalettedSection<T> {
+
+    private static final int SIZE = 4096;
+
+    private final Map<T, Integer> paletteIndex = new HashMap<>();
+    private Object[] palette = new Object[16];
+    private int paletteSize = 1;
+    private int bits = 4;
+    private long[] data = new long[SIZE * 4 / Long.SIZE];
+    private T lastValue;
+    private int lastIndex;
+
+    /**
+     * @param j     the position in the section, see {@link com.plotsquared.core.util.ChunkUtil#getJ(int, int, int)}
+     * @param value the value to set
+     */
+    void set(final int j, final @NonNull T value) {
+        final int index;
+        if (value == this.lastValue) {
+            index = this.lastIndex;
+        } else {
+            index = getOrAddIndex(value);
+            this.lastValue = value;
+            this.lastIndex = index;
+        }
+        final int perLong = Long.SIZE / this.bits;
+        final int word = j / perLong;
+        final int shift = (j % perLong) * this.bits;
+        final long mask = (1L << this.bits) - 1;
+        this.data[word] = (this.data[word] & ~(mask << shift)) | ((long) index << shift);
+    }
+
+    /**
+     * @param j the position in the section, see {@link com.plotsquared.core.util.ChunkUtil#getJ(int, int, int)}
+     * @return the value at the position, or {@code null} if it has not been set
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable T get(final int j) {
+        return (T) this.palette[getIndex(j)];
+    }
+
+    private int getIndex(final int j) {
+        final int perLong = Long.SIZE / this.bits;
+        final int shift = (j % perLong) * this.bits;
+        return (int) ((this.data[j / perLong] >>> shift) & ((1L << this.bits) - 1));
+    }
+
+    private int getOrAddIndex(final @NonNull T value) {
+        final Integer existing = this.paletteIndex.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        final int index = this.paletteSize++;
+        if (index == this.palette.length) {
+            this.palette = Arrays.copyOf(this.palette, this.palette.length << 1);
+        }
+        if (index >= 1 << this.bits) {
+            resize(this.bits << 1);
+        }
+        this.palette[index] = value;
+        this.paletteIndex.put(value, index);
+        return index;
+    }
+
+    private void resize(final int bits) {
+        final long[] data = new long[SIZE * bits / Long.SIZE];
+        final int perLong = Long.SIZE / bits;
+        for (int j = 0; j < SIZE; j++) {
+            data[j / perLong] |= (long) getIndex(j) << ((j % perLong) * bits);
+        }
+        this.data = data;
+        this.bits = bits;
+    }
+
+}
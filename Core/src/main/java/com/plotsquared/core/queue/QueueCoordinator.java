@@ -45,6 +45,7 @@ public abstract class QueueCoordinator {
 
     private final AtomicBoolean enqueued = new AtomicBoolean();
     private boolean forceSync = false;
+    private ChunkCoordinator.Priority priority = ChunkCoordinator.Priority.NORMAL;
     @Nullable
     private Object chunkObject;
     @SuppressWarnings({"unused", "FieldCanBeLocal"})
@@ -110,6 +111,27 @@ public abstract class QueueCoordinator {
         this.forceSync = forceSync;
     }
 
+    /**
+     * Get the priority of the {@link ChunkCoordinator} that applies the queue once enqueued.
+     *
+     * @return the priority
+     * @since TODO
+     */
+    public ChunkCoordinator.@NonNull Priority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Set the priority of the {@link ChunkCoordinator} that applies the queue once enqueued. Queues that a player is waiting
+     * on should use {@link ChunkCoordinator.Priority#HIGH}.
+     *
+     * @param priority the priority
+     * @since TODO
+     */
+    public void setPriority(ChunkCoordinator.@NonNull Priority priority) {
+        this.priority = priority;
+    }
+
     /**
      * Get the Chunk Object set to the queue
      *
@@ -0,0 +1,160 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable set of {@link CuboidRegion}s with a precomputed bounding box and a point containment index.
+ * <p>
+ * The x axis is split into slabs at every region edge, and each slab holds the regions overlapping it sorted by their
+ * minimum z coordinate, so containment checks only need a binary search and a scan of the few regions in one slab.
+ * The regions themselves must not be modified once added to the set.
+ *
+ * @since TODO
+ */
+public final class CuboidRegionSet extends AbstractSet<CuboidRegion> {
+
+    private static final CuboidRegion[] NO_REGIONS = new CuboidRegion[0];
+
+    private final List<CuboidRegion> regions;
+    private final CuboidRegion boundingBox;
+    // slabEdges[i] is the first x coordinate of slab i, which extends up to slabEdges[i + 1] (exclusive)
+    private final long[] slabEdges;
+    private final CuboidRegion[][] slabs;
+
+    /**
+     * Create a new region set
+     *
+     * @param regions The regions to include, at least one
+     */
+    public CuboidRegionSet(final @NonNull Collection<CuboidRegion> regions) {
+        if (regions.isEmpty()) {
+            throw new IllegalArgumentException("No regions given");
+        }
+        this.regions = Collections.unmodifiableList(new ArrayList<>(new LinkedHashSet<>(regions)));
+        this.boundingBox = RegionUtil.getAxisAlignedBoundingBox(this.regions);
+
+        // Edges are longs, as the exclusive end of a region reaching Integer.MAX_VALUE does not fit an int
+        final TreeSet<Long> edges = new TreeSet<>();
+        for (final CuboidRegion region : this.regions) {
+            edges.add((long) region.getMinimumPoint().getX());
+            edges.add(region.getMaximumPoint().getX() + 1L);
+        }
+        this.slabEdges = edges.stream().mapToLong(Long::longValue).toArray();
+        this.slabs = new CuboidRegion[this.slabEdges.length - 1][];
+        final List<CuboidRegion> slab = new ArrayList<>();
+        for (int i = 0; i < this.slabs.length; i++) {
+            slab.clear();
+            for (final CuboidRegion region : this.regions) {
+                if (region.getMinimumPoint().getX() <= this.slabEdges[i] && region.getMaximumPoint().getX() >= this.slabEdges[i]) {
+                    slab.add(region);
+                }
+            }
+            slab.sort(Comparator.comparingInt(region -> region.getMinimumPoint().getZ()));
+            this.slabs[i] = slab.toArray(NO_REGIONS);
+        }
+    }
+
+    /**
+     * Get a copy of the smallest region containing all regions of this set
+     *
+     * @return the bounding box
+     */
+    public @NonNull CuboidRegion getBoundingBox() {
+        return this.boundingBox.clone();
+    }
+
+    /**
+     * Check whether any region of this set contains the given column
+     *
+     * @param x x coordinate
+     * @param z z coordinate
+     * @return {@code true} if the column is contained
+     */
+    public boolean contains(final int x, final int z) {
+        for (final CuboidRegion region : getSlab(x)) {
+            final BlockVector3 min = region.getMinimumPoint();
+            if (min.getZ() > z) {
+                return false;
+            }
+            if (region.getMaximumPoint().getZ() >= z) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether any region of this set contains the given position
+     *
+     * @param x x coordinate
+     * @param y y coordinate
+     * @param z z coordinate
+     * @return {@code true} if the position is contained
+     */
+    public boolean contains(final int x, final int y, final int z) {
+        for (final CuboidRegion region : getSlab(x)) {
+            final BlockVector3 min = region.getMinimumPoint();
+            if (min.getZ() > z) {
+                return false;
+            }
+            final BlockVector3 max = region.getMaximumPoint();
+            if (max.getZ() >= z && min.getY() <= y && max.getY() >= y) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private CuboidRegion[] getSlab(final int x) {
+        if (x < this.slabEdges[0] || x >= this.slabEdges[this.slabEdges.length - 1]) {
+            return NO_REGIONS;
+        }
+        int index = Arrays.binarySearch(this.slabEdges, x);
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return this.slabs[index];
+    }
+
+    @Override
+    public @NonNull Iterator<CuboidRegion> iterator() {
+        return this.regions.iterator();
+    }
+
+    @Override
+    public int size() {
+        return this.regions.size();
+    }
+
+}
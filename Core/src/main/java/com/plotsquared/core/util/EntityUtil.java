@@ -36,6 +36,11 @@ import static com.plotsquared.core.util.entity.EntityCategories.CAP_VEHICLE;
  */
 public class EntityUtil {
 
+    private static final String ENTITY_COUNT = "EntityCount";
+    private static final String ENTITY_COUNT_TIME = "EntityCountTime";
+
+    private static volatile boolean trackingEntities = false;
+
     private EntityUtil() {
         throw new UnsupportedOperationException(
                 "This is a utility class and cannot be instantiated");
@@ -68,24 +73,111 @@ public class EntityUtil {
                 return true;
             }
             if (mobs == null) {
-                mobs = plot.countEntities();
+                mobs = getEntityCounts(plot);
             }
             if (mobs[i] >= cap) {
-                plot.setMeta("EntityCount", mobs);
-                plot.setMeta("EntityCountTime", System.currentTimeMillis());
                 plot.debug("Prevented spawning of mob because it would exceed " + flag.getName());
                 return true;
             }
         }
-        if (mobs != null) {
-            for (PlotFlag<Integer, ?> flag : flags) {
-                final int i = capNumeral(flag.getName());
-                mobs[i]++;
+        // When entities are tracked, the spawn is counted once it actually happened
+        if (mobs != null && !trackingEntities) {
+            synchronized (mobs) {
+                for (PlotFlag<Integer, ?> flag : flags) {
+                    final int i = capNumeral(flag.getName());
+                    mobs[i]++;
+                }
             }
-            plot.setMeta("EntityCount", mobs);
-            plot.setMeta("EntityCountTime", System.currentTimeMillis());
         }
         return false;
     }
 
+    /**
+     * Set whether the platform reports every entity that is added to or removed from a world through
+     * {@link #addEntity(Plot, int[])} and {@link #removeEntity(Plot, int[])}. Only then are entity counts
+     * kept for {@link Settings.Entity_Caps#RECOUNT_INTERVAL}. Otherwise, spawns that pass the cap check are
+     * counted right away and the counts are recounted every second.
+     *
+     * @param tracking whether entity additions and removals are reported
+     * @since TODO
+     */
+    public static void setTrackingEntities(final boolean tracking) {
+        trackingEntities = tracking;
+    }
+
+    /**
+     * Get the tracked entity counts of a plot (and the plots merged with it), indexed by the caps in
+     * {@link com.plotsquared.core.util.entity.EntityCategories}. The counts are kept up to date by
+     * {@link #addEntity(Plot, int[])} and {@link #removeEntity(Plot, int[])}, and are recounted once
+     * they are older than {@link Settings.Entity_Caps#RECOUNT_INTERVAL}, or after they were invalidated.
+     * See {@link #setTrackingEntities(boolean)} for platforms that do not report entity changes.
+     *
+     * @param plot the plot to get the entity counts of
+     * @return the entity counts
+     * @since TODO
+     */
+    public static int @NonNull [] getEntityCounts(final @NonNull Plot plot) {
+        final Plot base = plot.getBasePlot(false);
+        final Object counts = base.getMeta(ENTITY_COUNT);
+        final Object time = base.getMeta(ENTITY_COUNT_TIME);
+        final long interval = trackingEntities ? Settings.Entity_Caps.RECOUNT_INTERVAL * 1000L : 1000L;
+        if (counts instanceof int[] mobs && time instanceof Long countTime
+                && System.currentTimeMillis() - countTime < interval) {
+            return mobs;
+        }
+        final int[] mobs = base.countEntities();
+        base.setMeta(ENTITY_COUNT, mobs);
+        base.setMeta(ENTITY_COUNT_TIME, System.currentTimeMillis());
+        return mobs;
+    }
+
+    /**
+     * Add an entity that was added to the world to the tracked entity counts of a plot.
+     *
+     * @param plot   the plot the entity is in
+     * @param counts the caps the entity counts towards, as counted by {@link RegionManager#countEntities(Plot)}
+     * @since TODO
+     */
+    public static void addEntity(final @NonNull Plot plot, final int @NonNull [] counts) {
+        if (!(plot.getBasePlot(false).getMeta(ENTITY_COUNT) instanceof int[] mobs)) {
+            return;
+        }
+        synchronized (mobs) {
+            for (int i = 0; i < mobs.length && i < counts.length; i++) {
+                mobs[i] += counts[i];
+            }
+        }
+    }
+
+    /**
+     * Subtract an entity that was removed from the world from the tracked entity counts of a plot.
+     *
+     * @param plot   the plot the entity was in
+     * @param counts the caps the entity counted towards, as counted by {@link RegionManager#countEntities(Plot)}
+     * @since TODO
+     */
+    public static void removeEntity(final @NonNull Plot plot, final int @NonNull [] counts) {
+        if (!(plot.getBasePlot(false).getMeta(ENTITY_COUNT) instanceof int[] mobs)) {
+            return;
+        }
+        synchronized (mobs) {
+            for (int i = 0; i < mobs.length && i < counts.length; i++) {
+                mobs[i] = Math.max(0, mobs[i] - counts[i]);
+            }
+        }
+    }
+
+    /**
+     * Drop the tracked entity counts of a plot, so that they are recounted on the next cap check.
+     * Used when entities enter or leave the plot without spawning or dying, e.g. on chunk loads.
+     *
+     * @param plot the plot to invalidate the counts of
+     * @since TODO
+     */
+    public static void invalidateEntityCounts(final @NonNull Plot plot) {
+        final Plot base = plot.getBasePlot(false);
+        base.deleteMeta(ENTITY_COUNT);
+        base.deleteMeta(ENTITY_COUNT_TIME);
+    }
+
 }
@@ -18,7 +18,6 @@
  */
 package com.plotsquared.core.util;
 
-import com.google.common.eventbus.EventBus;
 import com.intellectualsites.annotations.DoNotUse;
 import com.plotsquared.core.PlotSquared;
 import com.plotsquared.core.configuration.Settings;
@@ -96,7 +95,7 @@ import java.util.UUID;
 @DoNotUse
 public class EventDispatcher {
 
-    private final EventBus eventBus = new EventBus("PlotSquaredEvents");
+    private final TypedEventBus eventBus = new TypedEventBus();
     private final List<Object> listeners = new ArrayList<>();
     private final WorldEdit worldEdit;
 
@@ -258,6 +257,34 @@ public class EventDispatcher {
         return event;
     }
 
+    /**
+     * Dispatch a {@link PlayerEnterPlotEvent} if anything listens to it. As this is done whenever a player crosses a
+     * plot border, the event is not created otherwise. Use {@link #callEntry(PlotPlayer, Plot)} to obtain the event.
+     *
+     * @param player the player entering the plot
+     * @param plot   the plot entered
+     * @since TODO
+     */
+    public void dispatchEntry(PlotPlayer<?> player, Plot plot) {
+        if (eventBus.hasSubscribers(PlayerEnterPlotEvent.class)) {
+            callEntry(player, plot);
+        }
+    }
+
+    /**
+     * Dispatch a {@link PlayerLeavePlotEvent} if anything listens to it. As this is done whenever a player crosses a
+     * plot border, the event is not created otherwise. Use {@link #callLeave(PlotPlayer, Plot)} to obtain the event.
+     *
+     * @param player the player leaving the plot
+     * @param plot   the plot left
+     * @since TODO
+     */
+    public void dispatchLeave(PlotPlayer<?> player, Plot plot) {
+        if (eventBus.hasSubscribers(PlayerLeavePlotEvent.class)) {
+            callLeave(player, plot);
+        }
+    }
+
     public PlayerPlotDeniedEvent callDenied(
             PlotPlayer<?> initiator, Plot plot, UUID player,
             boolean added
@@ -29,6 +29,7 @@ import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.PlotManager;
 import com.plotsquared.core.queue.BasicQueueCoordinator;
+import com.plotsquared.core.queue.ChunkCoordinator;
 import com.plotsquared.core.queue.GlobalBlockQueue;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.task.TaskManager;
@@ -128,8 +129,11 @@ public abstract class RegionManager {
         if (queue == null) {
             queue = area.getQueue();
             enqueue = true;
-            if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            if (actor != null) {
+                queue.setPriority(ChunkCoordinator.Priority.HIGH);
+                if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                    queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+                }
             }
         }
         for (CuboidRegion region : regions) {
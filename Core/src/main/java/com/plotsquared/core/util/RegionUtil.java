@@ -49,6 +49,9 @@ public class RegionUtil {
      * @return a CuboidRegion that contains all given regions.
      */
     public static @NonNull CuboidRegion getAxisAlignedBoundingBox(Iterable<CuboidRegion> regions) {
+        if (regions instanceof CuboidRegionSet regionSet) {
+            return regionSet.getBoundingBox();
+        }
         Iterator<CuboidRegion> iterator = regions.iterator();
         if (!iterator.hasNext()) {
             throw new IllegalArgumentException("No regions given");
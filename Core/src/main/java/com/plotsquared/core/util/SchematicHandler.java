@@ -32,6 +32,7 @@ import com.plotsquared.core.player.PlotPlayer;
 import com.plotsquared.core.plot.Plot;
 import com.plotsquared.core.plot.PlotArea;
 import com.plotsquared.core.plot.schematic.Schematic;
+import com.plotsquared.core.queue.ChunkCoordinator;
 import com.plotsquared.core.queue.QueueCoordinator;
 import com.plotsquared.core.util.net.AbstractDelegateOutputStream;
 import com.plotsquared.core.util.task.RunnableVal;
@@ -379,8 +380,11 @@ public abstract class SchematicHandler {
                     }
                 }
             }
-            if (actor != null && Settings.QUEUE.NOTIFY_PROGRESS) {
-                queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+            if (actor != null) {
+                queue.setPriority(ChunkCoordinator.Priority.HIGH);
+                if (Settings.QUEUE.NOTIFY_PROGRESS) {
+                    queue.addProgressSubscriber(subscriberFactory.createWithActor(actor));
+                }
             }
             if (whenDone != null) {
                 whenDone.value = true;
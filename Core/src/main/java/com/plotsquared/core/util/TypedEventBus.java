@@ -0,0 +1,243 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.Subscribe;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Event bus that dispatches events to the {@link Subscribe} methods of registered listeners, as Guava's event bus does.
+ * Subscriber methods are bound to {@link Consumer}s through {@link LambdaMetafactory} when they are registered, and the
+ * subscribers of every event class (including those of its supertypes) are resolved once and cached, so posting an
+ * event neither reflects nor allocates.
+ * <p>
+ * Unlike Guava's event bus, events are dispatched immediately, also when posted from within a subscriber.
+ */
+final class TypedEventBus {
+
+    private static final Logger LOGGER = LogManager.getLogger("PlotSquared/" + TypedEventBus.class.getSimpleName());
+    private static final Subscriber[] NO_SUBSCRIBERS = new Subscriber[0];
+    private static final MethodType CONSUMER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final Map<Class<?>, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, Subscriber[]> dispatchCache = new ConcurrentHashMap<>();
+
+    /**
+     * Register all {@link Subscribe} methods of a listener.
+     *
+     * @param listener the listener to register
+     * @throws IllegalArgumentException if a subscriber method does not take exactly one parameter
+     */
+    void register(final @NonNull Object listener) {
+        for (final Method method : findSubscriberMethods(listener.getClass())) {
+            final Class<?> eventType = method.getParameterTypes()[0];
+            this.subscribers.computeIfAbsent(eventType, type -> new CopyOnWriteArrayList<>())
+                    .add(new Subscriber(listener, method, createInvoker(listener, method)));
+        }
+        this.dispatchCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Unregister all {@link Subscribe} methods of a listener.
+     *
+     * @param listener the listener to unregister
+     * @throws IllegalArgumentException if the listener was not registered
+     */
+    void unregister(final @NonNull Object listener) {
+        boolean removed = false;
+        for (final List<Subscriber> list : this.subscribers.values()) {
+            removed |= list.removeIf(subscriber -> subscriber.listener == listener);
+        }
+        if (!removed) {
+            throw new IllegalArgumentException("Missing event subscriber for an annotated method. Is " + listener + " registered?");
+        }
+        this.dispatchCache = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Check whether anything subscribes to events of the given class.
+     *
+     * @param eventType the event class
+     * @return {@code true} if posting an event of that class reaches at least one subscriber
+     */
+    boolean hasSubscribers(final @NonNull Class<?> eventType) {
+        return getSubscribers(eventType).length != 0;
+    }
+
+    /**
+     * Post an event to all subscribers of its class and supertypes. Exceptions thrown by subscribers are logged.
+     *
+     * @param event the event to post
+     */
+    void post(final @NonNull Object event) {
+        for (final Subscriber subscriber : getSubscribers(event.getClass())) {
+            subscriber.dispatch(event);
+        }
+    }
+
+    private Subscriber[] getSubscribers(final Class<?> eventType) {
+        // Read the cache once, so that results computed while listeners change end up in the discarded cache
+        final Map<Class<?>, Subscriber[]> cache = this.dispatchCache;
+        Subscriber[] resolved = cache.get(eventType);
+        if (resolved == null) {
+            final List<Subscriber> list = new ArrayList<>();
+            for (final Class<?> type : getTypeHierarchy(eventType)) {
+                final List<Subscriber> registered = this.subscribers.get(type);
+                if (registered != null) {
+                    list.addAll(registered);
+                }
+            }
+            resolved = list.isEmpty() ? NO_SUBSCRIBERS : list.toArray(NO_SUBSCRIBERS);
+            cache.put(eventType, resolved);
+        }
+        return resolved;
+    }
+
+    private static Set<Class<?>> getTypeHierarchy(final Class<?> type) {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        final Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            final Class<?> current = queue.poll();
+            if (types.add(current)) {
+                if (current.getSuperclass() != null) {
+                    queue.add(current.getSuperclass());
+                }
+                queue.addAll(Arrays.asList(current.getInterfaces()));
+            }
+        }
+        return types;
+    }
+
+    private static List<Method> findSubscriberMethods(final Class<?> listenerType) {
+        // Methods overridden in subclasses are only registered once, like Guava does
+        final Map<String, Method> methods = new LinkedHashMap<>();
+        for (final Class<?> type : getTypeHierarchy(listenerType)) {
+            for (final Method method : type.getDeclaredMethods()) {
+                if (!method.isAnnotationPresent(Subscribe.class) || method.isSynthetic()) {
+                    continue;
+                }
+                if (method.getParameterCount() != 1) {
+                    throw new IllegalArgumentException("Method " + method + " has @Subscribe annotation but has "
+                            + method.getParameterCount() + " parameters. Subscriber methods must have exactly 1 parameter.");
+                }
+                methods.putIfAbsent(method.getName() + Arrays.toString(method.getParameterTypes()), method);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Consumer<Object> createInvoker(final Object listener, final Method method) {
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        final MethodHandles.Lookup lookup;
+        final MethodHandle handle;
+        try {
+            lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles.lookup());
+            handle = lookup.unreflect(method);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access subscriber method " + method, e);
+        }
+        try {
+            final CallSite site = LambdaMetafactory.metafactory(
+                    lookup,
+                    "accept",
+                    isStatic
+                            ? MethodType.methodType(Consumer.class)
+                            : MethodType.methodType(Consumer.class, method.getDeclaringClass()),
+                    CONSUMER_TYPE,
+                    handle,
+                    MethodType.methodType(void.class, method.getParameterTypes()[0])
+            );
+            return (Consumer<Object>) (isStatic ? site.getTarget().invoke() : site.getTarget().invoke(listener));
+        } catch (final LambdaConversionException e) {
+            // Listeners of other plugins live in a different module, in which case only the method handle can be used
+            final MethodHandle bound = (isStatic ? handle : handle.bindTo(listener)).asType(CONSUMER_TYPE);
+            return event -> {
+                try {
+                    bound.invokeExact(event);
+                } catch (final Throwable throwable) {
+                    throw TypedEventBus.<RuntimeException>rethrow(throwable);
+                }
+            };
+        } catch (final Throwable throwable) {
+            throw new IllegalArgumentException("Cannot bind subscriber method " + method, throwable);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T rethrow(final Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+
+    private static final class Subscriber {
+
+        private final Object listener;
+        private final Method method;
+        private final Consumer<Object> invoker;
+        private final boolean synchronize;
+
+        private Subscriber(final Object listener, final Method method, final Consumer<Object> invoker) {
+            this.listener = listener;
+            this.method = method;
+            this.invoker = invoker;
+            this.synchronize = !method.isAnnotationPresent(AllowConcurrentEvents.class);
+        }
+
+        private void dispatch(final Object event) {
+            try {
+                if (this.synchronize) {
+                    synchronized (this) {
+                        this.invoker.accept(event);
+                    }
+                } else {
+                    this.invoker.accept(event);
+                }
+            } catch (final Throwable throwable) {
+                LOGGER.error("Exception thrown by subscriber method {} when dispatching event {}", this.method, event, throwable);
+            }
+        }
+
+    }
+
+}
@@ -41,6 +41,9 @@ public class WEManager {
     private static final BlockVector3 MAX = BlockVector3.at(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
 
     public static boolean maskContains(Set<CuboidRegion> mask, int x, int y, int z) {
+        if (mask instanceof CuboidRegionSet regionSet) {
+            return regionSet.contains(x, y, z);
+        }
         for (CuboidRegion region : mask) {
             if (RegionUtil.contains(region, x, y, z)) {
                 return true;
@@ -50,6 +53,9 @@ public class WEManager {
     }
 
     public static boolean maskContains(Set<CuboidRegion> mask, int x, int z) {
+        if (mask instanceof CuboidRegionSet regionSet) {
+            return regionSet.contains(x, z);
+        }
         for (CuboidRegion region : mask) {
             if (RegionUtil.contains(region, x, z)) {
                 return true;
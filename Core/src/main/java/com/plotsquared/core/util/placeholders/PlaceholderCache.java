@@ -0,0 +1,233 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util.placeholders;
+
+import com.google.common.eventbus.Subscribe;
+import com.plotsquared.core.configuration.Settings;
+import com.plotsquared.core.events.PlayerClaimPlotEvent;
+import com.plotsquared.core.events.PlayerPlotDeniedEvent;
+import com.plotsquared.core.events.PlayerPlotHelperEvent;
+import com.plotsquared.core.events.PlayerPlotTrustedEvent;
+import com.plotsquared.core.events.PlotClaimedNotifyEvent;
+import com.plotsquared.core.events.PlotDoneEvent;
+import com.plotsquared.core.events.PlotFlagEvent;
+import com.plotsquared.core.events.PlotRateEvent;
+import com.plotsquared.core.events.post.PostPlayerAutoPlotEvent;
+import com.plotsquared.core.events.post.PostPlayerBuyPlotEvent;
+import com.plotsquared.core.events.post.PostPlotChangeOwnerEvent;
+import com.plotsquared.core.events.post.PostPlotClearEvent;
+import com.plotsquared.core.events.post.PostPlotDeleteEvent;
+import com.plotsquared.core.events.post.PostPlotMergeEvent;
+import com.plotsquared.core.events.post.PostPlotUnlinkEvent;
+import com.plotsquared.core.player.PlotPlayer;
+import com.plotsquared.core.plot.Plot;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache for the values of expensive {@link Placeholder placeholders}. Values are cached per player, and per plot
+ * for {@link PlotSpecificPlaceholder plot specific placeholders}. They expire after {@link Settings.Placeholders#CACHE_TIME}
+ * and are discarded early when an event changes the plot they belong to.
+ *
+ * @since TODO
+ */
+public final class PlaceholderCache {
+
+    private static final int PRUNE_INTERVAL = 1024;
+
+    private final Map<Key, Entry> playerValues = new ConcurrentHashMap<>();
+    private final Map<Plot, Map<Key, Entry>> plotValues = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    PlaceholderCache() {
+    }
+
+    /**
+     * Get the cached value of a placeholder, or compute and cache it.
+     *
+     * @param placeholder the placeholder
+     * @param player      the player the placeholder is evaluated for
+     * @param plot        the plot the placeholder is evaluated in, or {@code null} if it does not depend on a plot
+     * @param loader      computes the value if it is not cached
+     * @return the placeholder value
+     */
+    @NonNull String get(
+            final @NonNull Placeholder placeholder, final @NonNull PlotPlayer<?> player, final @Nullable Plot plot,
+            final @NonNull Supplier<String> loader
+    ) {
+        if (Settings.Placeholders.CACHE_TIME <= 0) {
+            return loader.get();
+        }
+        final Map<Key, Entry> values = plot == null ? this.playerValues :
+                this.plotValues.computeIfAbsent(plot.getBasePlot(false), p -> new ConcurrentHashMap<>());
+        final Key key = new Key(placeholder.getKey(), player.getUUID());
+        final long now = System.currentTimeMillis();
+        final Entry entry = values.get(key);
+        if (entry != null && entry.expiry() > now) {
+            this.hits.incrementAndGet();
+            return entry.value();
+        }
+        if (this.misses.incrementAndGet() % PRUNE_INTERVAL == 0) {
+            prune(now);
+        }
+        final String value = loader.get();
+        if (value != null) {
+            values.put(key, new Entry(value, now + Settings.Placeholders.CACHE_TIME));
+        }
+        return value;
+    }
+
+    /**
+     * Discard all cached values of a plot (and the plots connected to it), and all values that do not depend on a plot,
+     * as they may count the plot.
+     *
+     * @param plot the plot that changed
+     */
+    public void invalidate(final @NonNull Plot plot) {
+        this.playerValues.clear();
+        this.plotValues.remove(plot);
+        this.plotValues.remove(plot.getBasePlot(false));
+    }
+
+    /**
+     * Discard all cached values
+     */
+    public void invalidateAll() {
+        this.playerValues.clear();
+        this.plotValues.clear();
+    }
+
+    /**
+     * Get the number of placeholder requests served from the cache
+     *
+     * @return cache hits
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * Get the number of placeholder requests that had to be computed
+     *
+     * @return cache misses
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    private void prune(final long now) {
+        this.playerValues.values().removeIf(entry -> entry.expiry() <= now);
+        this.plotValues.values().removeIf(values -> {
+            values.values().removeIf(entry -> entry.expiry() <= now);
+            return values.isEmpty();
+        });
+    }
+
+    @Subscribe
+    public void onClaim(final PlayerClaimPlotEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onClaimed(final PlotClaimedNotifyEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onAutoClaim(final PostPlayerAutoPlotEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onBuy(final PostPlayerBuyPlotEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onOwnerChange(final PostPlotChangeOwnerEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onTrusted(final PlayerPlotTrustedEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onMember(final PlayerPlotHelperEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onDenied(final PlayerPlotDeniedEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onFlag(final PlotFlagEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onRate(final PlotRateEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onDone(final PlotDoneEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onClear(final PostPlotClearEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onDelete(final PostPlotDeleteEvent event) {
+        invalidate(event.getPlot());
+    }
+
+    @Subscribe
+    public void onMerge(final PostPlotMergeEvent event) {
+        // The base plot of the merged plots may have changed
+        invalidateAll();
+    }
+
+    @Subscribe
+    public void onUnlink(final PostPlotUnlinkEvent event) {
+        invalidateAll();
+    }
+
+    private record Key(String placeholder, UUID player) {
+
+    }
+
+    private record Entry(String value, long expiry) {
+
+    }
+
+}
@@ -21,6 +21,7 @@ package com.plotsquared.core.util.placeholders;
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.plotsquared.core.PlotSquared;
@@ -47,6 +48,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -59,13 +61,18 @@ import java.util.function.BiFunction;
 public final class PlaceholderRegistry {
 
     private final Map<String, Placeholder> placeholders;
+    private final Set<Placeholder> cachedPlaceholders;
+    private final PlaceholderCache cache;
     private final EventDispatcher eventDispatcher;
 
     @Inject
     public PlaceholderRegistry(final @NonNull EventDispatcher eventDispatcher) {
         this.placeholders = Maps.newHashMap();
+        this.cachedPlaceholders = Sets.newIdentityHashSet();
+        this.cache = new PlaceholderCache();
         this.eventDispatcher = eventDispatcher;
         this.registerDefault();
+        this.eventDispatcher.registerListener(this.cache);
     }
 
     /**
@@ -197,6 +204,13 @@ public final class PlaceholderRegistry {
         });
         this.createPlaceholder("currentplot_biome", (player, plot) -> plot.getBiomeSynchronous().toString());
         this.createPlaceholder("currentplot_size", (player, plot) -> String.valueOf(plot.getConnectedPlots().size()));
+        // Placeholders that query many plots, other players or the world
+        for (final String key : new String[]{"has_plot", "allowed_plot_count", "base_plot_count", "plot_count",
+                "currentplot_owner", "currentplot_members", "currentplot_members_added", "currentplot_members_trusted",
+                "currentplot_members_denied", "currentplot_members_trusted_list", "currentplot_members_added_list",
+                "currentplot_members_denied_list", "currentplot_rating", "currentplot_biome", "currentplot_size"}) {
+            this.cachedPlaceholders.add(this.getPlaceholder(key));
+        }
     }
 
     /**
@@ -281,7 +295,11 @@ public final class PlaceholderRegistry {
         }
         String placeholderValue = "";
         try {
-            placeholderValue = placeholder.getValue(player);
+            if (this.cachedPlaceholders.contains(placeholder)) {
+                placeholderValue = this.getCachedValue(placeholder, player);
+            } else {
+                placeholderValue = placeholder.getValue(player);
+            }
             // If a placeholder for some reason decides to be disobedient, we catch it here
             if (placeholderValue == null) {
                 new RuntimeException(String
@@ -298,6 +316,27 @@ public final class PlaceholderRegistry {
         return placeholderValue;
     }
 
+    private String getCachedValue(final @NonNull Placeholder placeholder, final @NonNull PlotPlayer<?> player) {
+        if (placeholder instanceof PlotSpecificPlaceholder plotSpecificPlaceholder) {
+            final Plot plot = player.getCurrentPlot();
+            if (plot == null) {
+                return "";
+            }
+            return this.cache.get(placeholder, player, plot, () -> plotSpecificPlaceholder.getValue(player, plot));
+        }
+        return this.cache.get(placeholder, player, null, () -> placeholder.getValue(player));
+    }
+
+    /**
+     * Get the cache of the default placeholders that are expensive to evaluate
+     *
+     * @return Placeholder cache
+     * @since TODO
+     */
+    public @NonNull PlaceholderCache getCache() {
+        return this.cache;
+    }
+
     /**
      * Get all placeholders
      *
@@ -0,0 +1,109 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.uuid;
+
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact on-disk snapshot of UUID mappings, used to warm the UUID cache in a single
+ * pass on startup. Mappings are stored sorted by UUID as fixed-width UUIDs followed
+ * by the username.
+ *
+ * @since TODO
+ */
+public final class UUIDCacheSnapshot {
+
+    private static final int MAGIC = 0x50535543;
+    private static final int VERSION = 1;
+
+    private UUIDCacheSnapshot() {
+    }
+
+    /**
+     * Read all mappings stored in a snapshot
+     *
+     * @param file Snapshot file
+     * @return Stored mappings, or an empty list if the snapshot does not exist
+     * @throws IOException If the snapshot could not be read or is not a valid snapshot
+     */
+    public static @NonNull List<@NonNull UUIDMapping> read(final @NonNull File file) throws IOException {
+        if (!file.isFile()) {
+            return Collections.emptyList();
+        }
+        try (final DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a UUID cache snapshot: " + file);
+            }
+            final int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("Unsupported UUID cache snapshot version " + version);
+            }
+            final int size = in.readInt();
+            final List<UUIDMapping> mappings = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                final UUID uuid = new UUID(in.readLong(), in.readLong());
+                mappings.add(new UUIDMapping(uuid, in.readUTF()));
+            }
+            return mappings;
+        }
+    }
+
+    /**
+     * Replace the snapshot with the given mappings. The snapshot is written to a temporary
+     * file first, so a crash while writing never leaves a truncated snapshot behind
+     *
+     * @param file     Snapshot file
+     * @param mappings Mappings to store
+     * @throws IOException If the snapshot could not be written
+     */
+    public static void write(final @NonNull File file, final @NonNull Collection<@NonNull UUIDMapping> mappings) throws
+            IOException {
+        final List<UUIDMapping> sorted = new ArrayList<>(mappings);
+        sorted.sort(Comparator.comparing(UUIDMapping::uuid));
+        final File temporary = new File(file.getPath() + ".tmp");
+        try (final DataOutputStream out =
+                     new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary.toPath())))) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(sorted.size());
+            for (final UUIDMapping mapping : sorted) {
+                out.writeLong(mapping.uuid().getMostSignificantBits());
+                out.writeLong(mapping.uuid().getLeastSignificantBits());
+                out.writeUTF(mapping.username());
+            }
+        }
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+}
@@ -34,17 +34,24 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * An UUID pipeline is essentially an ordered list of
@@ -62,6 +69,8 @@ public class UUIDPipeline {
     private final Executor executor;
     private final List<UUIDService> serviceList;
     private final List<Consumer<List<UUIDMapping>>> consumerList;
+    private final LookupBatcher<UUID> nameBatcher;
+    private final LookupBatcher<String> uuidBatcher;
 
     /**
      * Construct a new UUID pipeline
@@ -73,6 +82,11 @@ public class UUIDPipeline {
         this.executor = executor;
         this.serviceList = Lists.newLinkedList();
         this.consumerList = Lists.newLinkedList();
+        this.nameBatcher = new LookupBatcher<>(UUIDService::getNames, UUIDMapping::uuid, UnaryOperator.identity());
+        // Services return usernames in their canonical casing, which may differ from the request
+        this.uuidBatcher = new LookupBatcher<>(UUIDService::getUUIDs, UUIDMapping::username,
+                username -> username.toLowerCase(Locale.ROOT)
+        );
     }
 
     /**
@@ -108,6 +122,9 @@ public class UUIDPipeline {
      * @param mappings Mappings
      */
     public void consume(final @NonNull List<@NonNull UUIDMapping> mappings) {
+        if (this.consumerList.isEmpty()) {
+            return;
+        }
         final Runnable runnable = () -> {
             for (final Consumer<List<UUIDMapping>> consumer : this.consumerList) {
                 consumer.accept(mappings);
@@ -286,55 +303,25 @@ public class UUIDPipeline {
             return CompletableFuture.completedFuture(Collections.emptyList());
         }
 
-        final List<UUIDService> serviceList = this.getServiceListInstance();
         final List<UUIDMapping> mappings = new ArrayList<>(requests.size());
-        final List<UUID> remainingRequests = new ArrayList<>(requests);
-
-        for (final UUIDService service : serviceList) {
-            // We can chain multiple synchronous
-            // ones in a row
-            if (service.canBeSynchronous()) {
-                final List<UUIDMapping> completedRequests = service.getNames(remainingRequests);
-                for (final UUIDMapping mapping : completedRequests) {
-                    remainingRequests.remove(mapping.uuid());
-                }
-                mappings.addAll(completedRequests);
-            } else {
-                break;
-            }
-            if (remainingRequests.isEmpty()) {
-                return CompletableFuture.completedFuture(mappings);
-            }
+        final Collection<UUID> remainingRequests = this.nameBatcher.resolveSynchronously(requests, mappings);
+        if (remainingRequests.isEmpty()) {
+            return CompletableFuture.completedFuture(mappings);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            for (final UUIDService service : serviceList) {
-                final List<UUIDMapping> completedRequests = service.getNames(remainingRequests);
-                for (final UUIDMapping mapping : completedRequests) {
-                    remainingRequests.remove(mapping.uuid());
-                }
-                mappings.addAll(completedRequests);
-                if (remainingRequests.isEmpty()) {
-                    break;
-                }
-            }
-
-            if (mappings.size() == requests.size()) {
-                this.consume(mappings);
+        return this.nameBatcher.request(remainingRequests).thenApplyAsync(resolved -> {
+            if (!resolved.containsValue(null)) {
+                mappings.addAll(resolved.values());
                 return mappings;
             } else if (Settings.DEBUG) {
                 LOGGER.info("(UUID) Failed to find all usernames");
             }
 
             if (Settings.UUID.UNKNOWN_AS_DEFAULT) {
-                for (final UUID uuid : remainingRequests) {
-                    mappings.add(new UUIDMapping(
-                            uuid,
-                            MINI_MESSAGE.escapeTags(TranslatableCaption
-                                    .of("info.unknown")
-                                    .getComponent(ConsolePlayer.getConsole()))
-                    ));
-                }
+                final String unknown = MINI_MESSAGE.escapeTags(TranslatableCaption
+                        .of("info.unknown")
+                        .getComponent(ConsolePlayer.getConsole()));
+                resolved.forEach((uuid, mapping) -> mappings.add(mapping == null ? new UUIDMapping(uuid, unknown) : mapping));
                 return mappings;
             } else {
                 throw new ServiceError("End of pipeline");
@@ -355,41 +342,15 @@ public class UUIDPipeline {
             return CompletableFuture.completedFuture(Collections.emptyList());
         }
 
-        final List<UUIDService> serviceList = this.getServiceListInstance();
         final List<UUIDMapping> mappings = new ArrayList<>(requests.size());
-        final List<String> remainingRequests = new ArrayList<>(requests);
-
-        for (final UUIDService service : serviceList) {
-            // We can chain multiple synchronous
-            // ones in a row
-            if (service.canBeSynchronous()) {
-                final List<UUIDMapping> completedRequests = service.getUUIDs(remainingRequests);
-                for (final UUIDMapping mapping : completedRequests) {
-                    remainingRequests.remove(mapping.username());
-                }
-                mappings.addAll(completedRequests);
-            } else {
-                break;
-            }
-            if (remainingRequests.isEmpty()) {
-                return CompletableFuture.completedFuture(mappings);
-            }
+        final Collection<String> remainingRequests = this.uuidBatcher.resolveSynchronously(requests, mappings);
+        if (remainingRequests.isEmpty()) {
+            return CompletableFuture.completedFuture(mappings);
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            for (final UUIDService service : serviceList) {
-                final List<UUIDMapping> completedRequests = service.getUUIDs(remainingRequests);
-                for (final UUIDMapping mapping : completedRequests) {
-                    remainingRequests.remove(mapping.username());
-                }
-                mappings.addAll(completedRequests);
-                if (remainingRequests.isEmpty()) {
-                    break;
-                }
-            }
-
-            if (mappings.size() == requests.size()) {
-                this.consume(mappings);
+        return this.uuidBatcher.request(remainingRequests).thenApplyAsync(resolved -> {
+            if (!resolved.containsValue(null)) {
+                mappings.addAll(resolved.values());
                 return mappings;
             } else if (Settings.DEBUG) {
                 LOGGER.info("(UUID) Failed to find all UUIDs");
@@ -431,4 +392,216 @@ public class UUIDPipeline {
         return null;
     }
 
+    /**
+     * Resolves the requests of one kind. Identical requests that cannot be answered synchronously share a single lookup,
+     * and requests arriving within {@link Settings.UUID#BATCH_WINDOW} are passed through the pipeline together, unless a
+     * caller is blocking on the result.
+     *
+     * @param <K> request type
+     */
+    private final class LookupBatcher<K> {
+
+        private final BiFunction<UUIDService, List<K>, List<UUIDMapping>> lookup;
+        private final Function<UUIDMapping, K> keyFunction;
+        private final UnaryOperator<K> normalizer;
+        private final Map<K, CompletableFuture<UUIDMapping>> inFlight = new ConcurrentHashMap<>();
+        // Normalized key to the request as it was made
+        private Map<K, K> queued = new LinkedHashMap<>();
+
+        private LookupBatcher(
+                final BiFunction<UUIDService, List<K>, List<UUIDMapping>> lookup,
+                final Function<UUIDMapping, K> keyFunction,
+                final UnaryOperator<K> normalizer
+        ) {
+            this.lookup = lookup;
+            this.keyFunction = keyFunction;
+            this.normalizer = normalizer;
+        }
+
+        /**
+         * Pass the requests through the leading synchronous services of the pipeline
+         *
+         * @param requests requests to resolve
+         * @param mappings list the found mappings are added to
+         * @return the requests that could not be completed synchronously
+         */
+        private Collection<K> resolveSynchronously(final Collection<K> requests, final List<UUIDMapping> mappings) {
+            final Map<K, K> remainingRequests = new LinkedHashMap<>();
+            for (final K request : requests) {
+                remainingRequests.putIfAbsent(this.normalizer.apply(request), request);
+            }
+            for (final UUIDService service : getServiceListInstance()) {
+                // We can chain multiple synchronous
+                // ones in a row
+                if (!service.canBeSynchronous()) {
+                    break;
+                }
+                for (final UUIDMapping mapping : this.lookup.apply(service, new ArrayList<>(remainingRequests.values()))) {
+                    if (remainingRequests.remove(this.normalizer.apply(this.keyFunction.apply(mapping))) != null) {
+                        mappings.add(mapping);
+                    }
+                }
+                if (remainingRequests.isEmpty()) {
+                    break;
+                }
+            }
+            return remainingRequests.values();
+        }
+
+        /**
+         * Request the mappings of the given keys
+         *
+         * @param requests keys to resolve
+         * @return future completing with the mapping of every requested key, or {@code null} if it could not be found
+         */
+        private CompletableFuture<Map<K, UUIDMapping>> request(final Collection<K> requests) {
+            final Map<K, CompletableFuture<UUIDMapping>> futures = new LinkedHashMap<>();
+            boolean schedule = false;
+            for (final K request : requests) {
+                final K key = this.normalizer.apply(request);
+                final CompletableFuture<UUIDMapping> created = new CompletableFuture<>();
+                final CompletableFuture<UUIDMapping> existing = this.inFlight.putIfAbsent(key, created);
+                if (existing != null) {
+                    futures.put(request, existing);
+                    continue;
+                }
+                futures.put(request, created);
+                synchronized (this) {
+                    schedule |= this.queued.isEmpty();
+                    this.queued.put(key, request);
+                }
+            }
+            if (schedule) {
+                CompletableFuture.delayedExecutor(Settings.UUID.BATCH_WINDOW, TimeUnit.MILLISECONDS, executor)
+                        .execute(this::flush);
+            }
+            final CompletableFuture<Map<K, UUIDMapping>> result = new BatchedFuture<>(this::flushNow, executor);
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).whenComplete((ignored, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+                final Map<K, UUIDMapping> mappings = new LinkedHashMap<>();
+                futures.forEach((request, future) -> mappings.put(request, future.join()));
+                result.complete(mappings);
+            });
+            return result;
+        }
+
+        /**
+         * Resolve the queued requests right away instead of waiting for the batch window to pass
+         */
+        private void flushNow() {
+            synchronized (this) {
+                if (this.queued.isEmpty()) {
+                    return;
+                }
+            }
+            executor.execute(this::flush);
+        }
+
+        private void flush() {
+            final Map<K, K> remainingRequests;
+            synchronized (this) {
+                if (this.queued.isEmpty()) {
+                    return;
+                }
+                remainingRequests = this.queued;
+                this.queued = new LinkedHashMap<>();
+            }
+            final Map<K, UUIDMapping> found = new LinkedHashMap<>();
+            try {
+                for (final UUIDService service : getServiceListInstance()) {
+                    for (final UUIDMapping mapping : this.lookup.apply(service, new ArrayList<>(remainingRequests.values()))) {
+                        final K key = this.normalizer.apply(this.keyFunction.apply(mapping));
+                        if (remainingRequests.remove(key) != null) {
+                            found.put(key, mapping);
+                        }
+                    }
+                    if (remainingRequests.isEmpty()) {
+                        break;
+                    }
+                }
+            } catch (final Throwable throwable) {
+                for (final K key : remainingRequests.keySet()) {
+                    this.complete(key, null, throwable);
+                }
+                remainingRequests.clear();
+            } finally {
+                if (!found.isEmpty()) {
+                    consume(new ArrayList<>(found.values()));
+                }
+                found.forEach((key, mapping) -> this.complete(key, mapping, null));
+                for (final K key : remainingRequests.keySet()) {
+                    this.complete(key, null, null);
+                }
+            }
+        }
+
+        private void complete(final K key, final @Nullable UUIDMapping mapping, final @Nullable Throwable throwable) {
+            final CompletableFuture<UUIDMapping> future = this.inFlight.remove(key);
+            if (future == null) {
+                return;
+            }
+            if (throwable != null) {
+                future.completeExceptionally(throwable);
+            } else {
+                future.complete(mapping);
+            }
+        }
+
+    }
+
+    /**
+     * Future of a batched lookup. Blocking on it, or on any future depending on it, resolves the pending batch right
+     * away, so that blocking callers do not spend their timeout waiting for the batch window. Asynchronous stages run
+     * on the pipeline executor unless given another one.
+     */
+    private static final class BatchedFuture<T> extends CompletableFuture<T> {
+
+        private final Runnable flush;
+        private final Executor executor;
+
+        private BatchedFuture(final Runnable flush, final Executor executor) {
+            this.flush = flush;
+            this.executor = executor;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new BatchedFuture<>(this.flush, this.executor);
+        }
+
+        @Override
+        public Executor defaultExecutor() {
+            return this.executor;
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            if (!isDone()) {
+                this.flush.run();
+            }
+            return super.get();
+        }
+
+        @Override
+        public T get(final long timeout, final @NonNull TimeUnit unit) throws InterruptedException, ExecutionException,
+                TimeoutException {
+            if (!isDone()) {
+                this.flush.run();
+            }
+            return super.get(timeout, unit);
+        }
+
+        @Override
+        public T join() {
+            if (!isDone()) {
+                this.flush.run();
+            }
+            return super.join();
+        }
+
+    }
+
 }
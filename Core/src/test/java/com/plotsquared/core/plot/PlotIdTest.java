@@ -0,0 +1,43 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.plot;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PlotIdTest {
+
+    @Test
+    public void cachedIdsAreShared() {
+        Assertions.assertSame(PlotId.of(0, 0), PlotId.of(0, 0));
+        Assertions.assertSame(PlotId.of(-128, 128), PlotId.of(-128, 128));
+        Assertions.assertSame(PlotId.of(3, -7), PlotId.fromString("3;-7"));
+    }
+
+    @Test
+    public void uncachedIdsAreEqual() {
+        PlotId id = PlotId.of(129, 4);
+        Assertions.assertEquals(id, PlotId.of(129, 4));
+        Assertions.assertEquals(id.hashCode(), PlotId.of(129, 4).hashCode());
+        Assertions.assertEquals(129, id.getX());
+        Assertions.assertEquals(4, id.getY());
+        Assertions.assertEquals(PlotId.of(-500, -500), PlotId.of(-500, -500));
+    }
+
+}
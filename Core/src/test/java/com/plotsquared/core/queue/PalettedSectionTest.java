@@ -0,0 +1,59 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.queue;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PalettedSectionTest {
+
+    @Test
+    public void unsetPositionsAreNull() {
+        PalettedSection<String> section = new PalettedSection<>();
+        section.set(42, "stone");
+        Assertions.assertEquals("stone", section.get(42));
+        Assertions.assertNull(section.get(0));
+        Assertions.assertNull(section.get(4095));
+    }
+
+    @Test
+    public void overwriteKeepsNeighbours() {
+        PalettedSection<String> section = new PalettedSection<>();
+        section.set(0, "stone");
+        section.set(1, "dirt");
+        section.set(2, "grass");
+        section.set(1, "stone");
+        Assertions.assertEquals("stone", section.get(0));
+        Assertions.assertEquals("stone", section.get(1));
+        Assertions.assertEquals("grass", section.get(2));
+    }
+
+    @Test
+    public void valuesSurvivePaletteGrowth() {
+        // every position gets a distinct value, so the indices are widened from 4 to 8 to 16 bits
+        PalettedSection<String> section = new PalettedSection<>();
+        for (int j = 0; j < 4096; j++) {
+            section.set(j, "block" + j);
+        }
+        for (int j = 0; j < 4096; j++) {
+            Assertions.assertEquals("block" + j, section.get(j));
+        }
+    }
+
+}
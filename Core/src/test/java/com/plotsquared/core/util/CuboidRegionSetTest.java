@@ -0,0 +1,78 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.regions.CuboidRegion;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+class CuboidRegionSetTest {
+
+    @Test
+    @DisplayName("Containment matches checking each region")
+    void containsMatchesRegions() {
+        // An L shape with an overlapping square in its corner
+        final Set<CuboidRegion> regions = Set.of(
+                new CuboidRegion(BlockVector3.at(0, 0, 0), BlockVector3.at(9, 10, 29)),
+                new CuboidRegion(BlockVector3.at(10, 0, 20), BlockVector3.at(29, 10, 29)),
+                new CuboidRegion(BlockVector3.at(5, 0, 15), BlockVector3.at(14, 10, 24))
+        );
+        final CuboidRegionSet regionSet = new CuboidRegionSet(regions);
+        for (int x = -5; x < 35; x++) {
+            for (int z = -5; z < 35; z++) {
+                Assertions.assertEquals(WEManager.maskContains(regions, x, z), regionSet.contains(x, z));
+                for (int y = -1; y < 12; y += 4) {
+                    Assertions.assertEquals(WEManager.maskContains(regions, x, y, z), regionSet.contains(x, y, z));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Bounding box covers all regions")
+    void boundingBox() {
+        final CuboidRegionSet regionSet = new CuboidRegionSet(List.of(
+                new CuboidRegion(BlockVector3.at(-4, 0, 2), BlockVector3.at(3, 5, 7)),
+                new CuboidRegion(BlockVector3.at(8, 1, -6), BlockVector3.at(12, 9, 0))
+        ));
+        final CuboidRegion boundingBox = regionSet.getBoundingBox();
+        Assertions.assertEquals(BlockVector3.at(-4, 0, -6), boundingBox.getMinimumPoint());
+        Assertions.assertEquals(BlockVector3.at(12, 9, 7), boundingBox.getMaximumPoint());
+        Assertions.assertEquals(2, regionSet.size());
+    }
+
+    @Test
+    @DisplayName("A region spanning all coordinates contains every point")
+    void unboundedRegion() {
+        final CuboidRegionSet regionSet = new CuboidRegionSet(List.of(new CuboidRegion(
+                BlockVector3.at(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE),
+                BlockVector3.at(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE)
+        )));
+        for (final int value : new int[]{Integer.MIN_VALUE, -1, 0, 1, Integer.MAX_VALUE}) {
+            Assertions.assertTrue(regionSet.contains(value, value));
+            Assertions.assertTrue(regionSet.contains(value, value, value));
+        }
+    }
+
+}
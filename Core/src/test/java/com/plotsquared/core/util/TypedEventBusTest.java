@@ -0,0 +1,102 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.util;
+
+import com.google.common.eventbus.Subscribe;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TypedEventBusTest {
+
+    private TypedEventBus eventBus;
+    private Listener listener;
+
+    @BeforeEach
+    void setUp() {
+        this.eventBus = new TypedEventBus();
+        this.listener = new Listener();
+        this.eventBus.register(this.listener);
+    }
+
+    @Test
+    @DisplayName("Dispatch to subscribers of the event class and its supertypes")
+    void postToHierarchy() {
+        this.eventBus.post(new ChildEvent());
+        Assertions.assertEquals(1, this.listener.child);
+        Assertions.assertEquals(1, this.listener.parent);
+
+        this.eventBus.post(new ParentEvent());
+        Assertions.assertEquals(1, this.listener.child);
+        Assertions.assertEquals(2, this.listener.parent);
+    }
+
+    @Test
+    @DisplayName("Keep dispatching if a subscriber throws")
+    void subscriberException() {
+        this.listener.fail = true;
+        Assertions.assertDoesNotThrow(() -> this.eventBus.post(new ChildEvent()));
+        Assertions.assertEquals(1, this.listener.child);
+        Assertions.assertEquals(1, this.listener.parent);
+    }
+
+    @Test
+    @DisplayName("Report subscribers and stop dispatching once unregistered")
+    void unregister() {
+        Assertions.assertTrue(this.eventBus.hasSubscribers(ChildEvent.class));
+        Assertions.assertFalse(this.eventBus.hasSubscribers(String.class));
+
+        this.eventBus.unregister(this.listener);
+        Assertions.assertFalse(this.eventBus.hasSubscribers(ChildEvent.class));
+        this.eventBus.post(new ChildEvent());
+        Assertions.assertEquals(0, this.listener.child);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.eventBus.unregister(this.listener));
+    }
+
+    private static class ParentEvent {
+
+    }
+
+    private static class ChildEvent extends ParentEvent {
+
+    }
+
+    private static class Listener {
+
+        private int child;
+        private int parent;
+        private boolean fail;
+
+        @Subscribe
+        private void onChild(ChildEvent event) {
+            this.child++;
+            if (this.fail) {
+                throw new IllegalStateException();
+            }
+        }
+
+        @Subscribe
+        public void onParent(ParentEvent event) {
+            this.parent++;
+        }
+
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.uuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+class UUIDCacheSnapshotTest {
+
+    @TempDir
+    File directory;
+
+    @Test
+    @DisplayName("Snapshot round trip keeps all mappings")
+    void roundTrip() throws IOException {
+        final File file = new File(this.directory, "uuid-snapshot.bin");
+        Assertions.assertTrue(UUIDCacheSnapshot.read(file).isEmpty());
+
+        final Set<UUIDMapping> mappings = Set.of(
+                new UUIDMapping(UUID.randomUUID(), "Notch"),
+                new UUIDMapping(UUID.randomUUID(), "jeb_"),
+                new UUIDMapping(UUID.randomUUID(), "Dinnerbone")
+        );
+        UUIDCacheSnapshot.write(file, mappings);
+
+        final List<UUIDMapping> read = UUIDCacheSnapshot.read(file);
+        Assertions.assertEquals(mappings, Set.copyOf(read));
+        for (int i = 1; i < read.size(); i++) {
+            Assertions.assertTrue(read.get(i - 1).uuid().compareTo(read.get(i).uuid()) < 0);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * PlotSquared, a land and world management plugin for Minecraft.
+ * Copyright (C) IntellectualSites <https://intellectualsites.com>
+ * Copyright (C) IntellectualSites team and contributors
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.plotsquared.core.uuid;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class UUIDPipelineTest {
+
+    private static final UUID NOTCH = UUID.fromString("069a79f4-44e9-4726-a5be-fca90e38aaf5");
+
+    @Test
+    @DisplayName("Usernames are matched regardless of the casing returned by a synchronous service")
+    void synchronousCanonicalCasing() throws Exception {
+        final UUIDPipeline pipeline = new UUIDPipeline(Runnable::run);
+        pipeline.registerService(new CanonicalService(true, Map.of("notch", new UUIDMapping(NOTCH, "Notch"))));
+
+        final List<UUIDMapping> mappings = pipeline.getUUIDs(List.of("notch")).get(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of(new UUIDMapping(NOTCH, "Notch")), mappings);
+    }
+
+    @Test
+    @DisplayName("Usernames are matched regardless of the casing returned by an asynchronous service")
+    void asynchronousCanonicalCasing() throws Exception {
+        final CanonicalService service = new CanonicalService(false, Map.of("notch", new UUIDMapping(NOTCH, "Notch")));
+        final UUIDPipeline pipeline = new UUIDPipeline(Executors.newCachedThreadPool());
+        pipeline.registerService(service);
+
+        final List<UUIDMapping> mappings = pipeline.getUUIDs(List.of("notch", "NOTCH")).get(1, TimeUnit.SECONDS);
+        Assertions.assertEquals(List.of(new UUIDMapping(NOTCH, "Notch")), mappings);
+        // Requests that only differ in casing are looked up once
+        Assertions.assertEquals(1, service.requests.size());
+    }
+
+    private static final class CanonicalService implements UUIDService {
+
+        private final boolean synchronous;
+        private final Map<String, UUIDMapping> mappings;
+        private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+
+        private CanonicalService(final boolean synchronous, final Map<String, UUIDMapping> mappings) {
+            this.synchronous = synchronous;
+            this.mappings = mappings;
+        }
+
+        @Override
+        public List<UUIDMapping> getNames(final List<UUID> uuids) {
+            return List.of();
+        }
+
+        @Override
+        public List<UUIDMapping> getUUIDs(final List<String> usernames) {
+            this.requests.add(usernames);
+            final List<UUIDMapping> found = new ArrayList<>();
+            for (final String username : usernames) {
+                final UUIDMapping mapping = this.mappings.get(username.toLowerCase(Locale.ROOT));
+                if (mapping != null) {
+                    found.add(mapping);
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public boolean canBeSynchronous() {
+            return this.synchronous;
+        }
+
+    }
+
+}